@@ -0,0 +1,104 @@
+/*
+ *
+ *  * The MIT License
+ *  *
+ *  * Copyright 2016 Shekhar Gulati <shekhargulati84@gmail.com>.
+ *  *
+ *  * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  * of this software and associated documentation files (the "Software"), to deal
+ *  * in the Software without restriction, including without limitation the rights
+ *  * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  * copies of the Software, and to permit persons to whom the Software is
+ *  * furnished to do so, subject to the following conditions:
+ *  *
+ *  * The above copyright notice and this permission notice shall be included in
+ *  * all copies or substantial portions of the Software.
+ *  *
+ *  * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  * THE SOFTWARE.
+ *
+ */
+
+
+package strman;
+
+import java.text.Normalizer;
+
+/**
+ * Accent folding, e.g. "Crème Brûlée" to "Creme Brulee". Letters in Latin-1 and Latin Extended are folded through a
+ * table built once from their canonical decomposition (NFD) with the combining marks dropped. What doesn't decompose
+ * to ASCII, such as "ß" or "Ж", falls back to the transliteration profiles.
+ */
+abstract class AccentFolding {
+
+    private static final char LATIN_START = '\u00C0';
+    private static final char LATIN_END = '\u024F';
+    private static final char ADDITIONAL_START = '\u1E00';
+    private static final char ADDITIONAL_END = '\u1EFF';
+
+    static String fold(final String value) {
+        int length = value.length();
+        int i = 0;
+        while (i < length && value.charAt(i) < 0x80) {
+            i++;
+        }
+        if (i == length) {
+            return value;
+        }
+        StringBuilder builder = new StringBuilder(length).append(value, 0, i);
+        boolean folded = true;
+        for (; i < length; i++) {
+            char ch = value.charAt(i);
+            char base = base(ch);
+            if (base != 0) {
+                builder.append(base);
+            } else if (!isCombiningDiacritic(ch)) {
+                builder.append(ch);
+                folded &= ch < 0x80;
+            }
+        }
+        return folded ? builder.toString() : Transliterator.ascii().transliterate(builder.toString());
+    }
+
+    // returns the ASCII letter ch decomposes to, or 0
+    private static char base(final char ch) {
+        if (ch >= LATIN_START && ch <= LATIN_END) {
+            return Bases.LATIN[ch - LATIN_START];
+        }
+        if (ch >= ADDITIONAL_START && ch <= ADDITIONAL_END) {
+            return Bases.ADDITIONAL[ch - ADDITIONAL_START];
+        }
+        return 0;
+    }
+
+    private static boolean isCombiningDiacritic(final char ch) {
+        return ch >= '\u0300' && ch <= '\u036F';
+    }
+
+    private static final class Bases {
+
+        private static final char[] LATIN = decompose(LATIN_START, LATIN_END);
+        private static final char[] ADDITIONAL = decompose(ADDITIONAL_START, ADDITIONAL_END);
+
+        private static char[] decompose(final char start, final char end) {
+            char[] bases = new char[end - start + 1];
+            for (char ch = start; ch <= end; ch++) {
+                String decomposed = Normalizer.normalize(String.valueOf(ch), Normalizer.Form.NFD);
+                char base = decomposed.charAt(0);
+                boolean marksOnly = true;
+                for (int i = 1; i < decomposed.length(); i++) {
+                    marksOnly &= isCombiningDiacritic(decomposed.charAt(i));
+                }
+                if (decomposed.length() > 1 && base < 0x80 && marksOnly) {
+                    bases[ch - start] = base;
+                }
+            }
+            return bases;
+        }
+    }
+}
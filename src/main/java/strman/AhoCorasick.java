@@ -0,0 +1,127 @@
+/*
+ *
+ *  * The MIT License
+ *  *
+ *  * Copyright 2016 Shekhar Gulati <shekhargulati84@gmail.com>.
+ *  *
+ *  * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  * of this software and associated documentation files (the "Software"), to deal
+ *  * in the Software without restriction, including without limitation the rights
+ *  * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  * copies of the Software, and to permit persons to whom the Software is
+ *  * furnished to do so, subject to the following conditions:
+ *  *
+ *  * The above copyright notice and this permission notice shall be included in
+ *  * all copies or substantial portions of the Software.
+ *  *
+ *  * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  * THE SOFTWARE.
+ *
+ */
+
+
+package strman;
+
+/**
+ * Aho-Corasick automaton over a set of literal patterns which reports leftmost-longest matches: of all the
+ * matches at or after a position it picks the one starting first, and of those the longest. The automaton is built
+ * over the reversed patterns and run once from the end of the text, so the longest match starting at every position
+ * is known after a single pass and finding all the matches takes time linear in the text.
+ */
+final class AhoCorasick {
+
+    private final CharTrie trie;
+    private final int[] fail;
+    private final int[] output;
+    private final int[] lengths;
+
+    AhoCorasick(final String[] patterns, final boolean ignoreCase) {
+        this.trie = new CharTrie(ignoreCase);
+        this.lengths = new int[patterns.length];
+        for (int i = 0; i < patterns.length; i++) {
+            if (patterns[i] == null || patterns[i].isEmpty()) {
+                throw new IllegalArgumentException("patterns should not be null or empty");
+            }
+            this.trie.add(patterns[i], i, true);
+            this.lengths[i] = patterns[i].length();
+        }
+        int size = this.trie.size();
+        this.fail = new int[size];
+        this.output = new int[size];
+        this.output[CharTrie.ROOT] = CharTrie.NONE;
+        // breadth first, so the failure target of a node is always complete before the node itself
+        int[] queue = new int[size];
+        int head = 0;
+        int tail = 0;
+        for (int child = this.trie.firstChild(CharTrie.ROOT); child != CharTrie.NONE;
+             child = this.trie.nextSibling(child)) {
+            this.fail[child] = CharTrie.ROOT;
+            queue[tail++] = child;
+        }
+        while (head < tail) {
+            int node = queue[head++];
+            this.output[node] = this.trie.value(node) != CharTrie.NONE ? node : this.output[this.fail[node]];
+            for (int child = this.trie.firstChild(node); child != CharTrie.NONE;
+                 child = this.trie.nextSibling(child)) {
+                this.fail[child] = step(this.fail[node], this.trie.label(child));
+                queue[tail++] = child;
+            }
+        }
+    }
+
+    /**
+     * Returns, for every position of text, one plus the index of the longest pattern starting there, or zero when
+     * no pattern does. The state reached after reading text backwards down to a position is the longest reversed
+     * pattern prefix ending there, so its output link is the longest pattern starting at that position.
+     */
+    int[] longestAt(final CharSequence text) {
+        int[] longest = new int[text.length()];
+        int state = CharTrie.ROOT;
+        for (int i = longest.length - 1; i >= 0; i--) {
+            state = step(state, text.charAt(i));
+            int found = this.output[state];
+            if (found != CharTrie.NONE) {
+                longest[i] = this.trie.value(found) + 1;
+            }
+        }
+        return longest;
+    }
+
+    /**
+     * Finds the leftmost-longest match starting at or after from
+     *
+     * @param longest the result of {@link #longestAt(CharSequence)} for the text
+     * @param match   receives the start, end and pattern index of the match
+     * @return true if a match was found
+     */
+    boolean find(final int[] longest, final int from, final int[] match) {
+        for (int i = from; i < longest.length; i++) {
+            if (longest[i] != 0) {
+                int pattern = longest[i] - 1;
+                match[0] = i;
+                match[1] = i + this.lengths[pattern];
+                match[2] = pattern;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int step(int state, final char ch) {
+        while (true) {
+            int next = this.trie.next(state, ch);
+            if (next != CharTrie.NONE) {
+                return next;
+            }
+            if (state == CharTrie.ROOT) {
+                return CharTrie.ROOT;
+            }
+            state = this.fail[state];
+        }
+    }
+}
@@ -0,0 +1,268 @@
+/*
+ *
+ *  * The MIT License
+ *  *
+ *  * Copyright 2016 Shekhar Gulati <shekhargulati84@gmail.com>.
+ *  *
+ *  * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  * of this software and associated documentation files (the "Software"), to deal
+ *  * in the Software without restriction, including without limitation the rights
+ *  * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  * copies of the Software, and to permit persons to whom the Software is
+ *  * furnished to do so, subject to the following conditions:
+ *  *
+ *  * The above copyright notice and this permission notice shall be included in
+ *  * all copies or substantial portions of the Software.
+ *  *
+ *  * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  * THE SOFTWARE.
+ *
+ */
+
+
+package strman;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.UnaryOperator;
+
+/**
+ * Applies a Strman transform to every element of an array. Arrays with at least threshold elements are split
+ * across the common {@link ForkJoinPool}. Create instances with {@link Strman#bulk(String[])}.
+ */
+public final class Bulk {
+
+    /**
+     * Default number of elements below which the transforms run on the calling thread
+     */
+    public static final int DEFAULT_THRESHOLD = 1 << 12;
+
+    private static final int MAX_SCRATCH_CAPACITY = 1 << 16;
+    private static final ThreadLocal<StringBuilder> SCRATCH = ThreadLocal.withInitial(StringBuilder::new);
+
+    private final String[] values;
+    private boolean inPlace;
+    private int threshold = DEFAULT_THRESHOLD;
+
+    Bulk(final String[] values) {
+        this.values = values;
+    }
+
+    /**
+     * Writes the results of the transforms back into the input array instead of a new one
+     *
+     * @return this instance
+     */
+    public Bulk inPlace() {
+        this.inPlace = true;
+        return this;
+    }
+
+    /**
+     * Sets the number of elements below which the transforms run on the calling thread
+     *
+     * @param threshold number of elements, should be greater than zero
+     * @return this instance
+     */
+    public Bulk threshold(final int threshold) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("threshold should be greater than zero");
+        }
+        this.threshold = threshold;
+        return this;
+    }
+
+    /**
+     * Convert every String to a slug
+     *
+     * @return the slugified values
+     * @see Strman#slugify(String)
+     */
+    public String[] slugify() {
+        return map(Strman::slugify);
+    }
+
+    /**
+     * Transform every String to snake_case
+     *
+     * @return the values in snake_case
+     * @see Strman#toSnakeCase(String)
+     */
+    public String[] toSnakeCase() {
+        return map(Strman::toSnakeCase);
+    }
+
+    /**
+     * Remove all non valid characters from every String. The result is built in a scratch buffer that is reused by
+     * each worker thread.
+     *
+     * @return the transliterated values
+     * @see Strman#transliterate(String)
+     */
+    public String[] transliterate() {
+        return map(Bulk::transliterate);
+    }
+
+    /**
+     * Convert all applicable characters of every String to HTML entities. The encoding is done in a scratch
+     * buffer that is reused by each worker thread.
+     *
+     * @return the encoded values
+     * @see Strman#htmlEncode(String)
+     */
+    public String[] htmlEncode() {
+        return map(Bulk::htmlEncode);
+    }
+
+    /**
+     * Applies function to every String
+     *
+     * @param function the transform to apply
+     * @return the transformed values
+     */
+    public String[] map(final UnaryOperator<String> function) {
+        String[] results = this.inPlace ? this.values : new String[this.values.length];
+        if (this.values.length < this.threshold) {
+            apply(function, this.values, results, 0, this.values.length);
+        } else {
+            ForkJoinPool.commonPool().invoke(new MapTask(function, this.values, results, 0, this.values.length,
+                    this.threshold));
+        }
+        return results;
+    }
+
+    /**
+     * Remove empty Strings. In place mode the retained Strings are moved to the start of the input array and the
+     * remaining slots are cleared, otherwise a new array of the exact size is returned.
+     *
+     * @return Array of String without empty Strings
+     * @see Strman#removeEmptyStrings(String[])
+     */
+    public String[] removeEmptyStrings() {
+        if (this.inPlace) {
+            compactEmptyStrings();
+            return this.values;
+        }
+        int count = 0;
+        for (String value : this.values) {
+            if (!isBlank(value)) {
+                count++;
+            }
+        }
+        String[] results = new String[count];
+        int next = 0;
+        for (String value : this.values) {
+            if (!isBlank(value)) {
+                results[next++] = value;
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Moves the non empty Strings to the start of the input array, preserving their order, and clears the
+     * remaining slots
+     *
+     * @return number of non empty Strings
+     */
+    public int compactEmptyStrings() {
+        int next = 0;
+        for (int i = 0; i < this.values.length; i++) {
+            if (!isBlank(this.values[i])) {
+                this.values[next++] = this.values[i];
+            }
+        }
+        for (int i = next; i < this.values.length; i++) {
+            this.values[i] = null;
+        }
+        return next;
+    }
+
+    private static String htmlEncode(final String html) {
+        if (html == null) {
+            throw new IllegalArgumentException("'value' should be not null.");
+        }
+        StringBuilder scratch = scratch();
+        String encoded = HtmlEntities.encode(html, scratch).toString();
+        release(scratch);
+        return encoded;
+    }
+
+    private static String transliterate(final String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("'value' should be not null.");
+        }
+        StringBuilder scratch = scratch();
+        String transliterated = Transliterator.ascii().transliterate(value, scratch);
+        release(scratch);
+        return transliterated;
+    }
+
+    private static StringBuilder scratch() {
+        StringBuilder scratch = SCRATCH.get();
+        scratch.setLength(0);
+        return scratch;
+    }
+
+    // a buffer grown by one huge value isn't kept alive by the thread
+    private static void release(final StringBuilder scratch) {
+        if (scratch.capacity() > MAX_SCRATCH_CAPACITY) {
+            SCRATCH.remove();
+        }
+    }
+
+    private static boolean isBlank(final String value) {
+        if (value == null) {
+            return true;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void apply(UnaryOperator<String> function, String[] values, String[] results, int from, int to) {
+        for (int i = from; i < to; i++) {
+            results[i] = function.apply(values[i]);
+        }
+    }
+
+    private static final class MapTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final UnaryOperator<String> function;
+        private final String[] values;
+        private final String[] results;
+        private final int from;
+        private final int to;
+        private final int threshold;
+
+        MapTask(UnaryOperator<String> function, String[] values, String[] results, int from, int to, int threshold) {
+            this.function = function;
+            this.values = values;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from <= this.threshold) {
+                apply(this.function, this.values, this.results, this.from, this.to);
+                return;
+            }
+            int middle = (this.from + this.to) >>> 1;
+            invokeAll(new MapTask(this.function, this.values, this.results, this.from, middle, this.threshold),
+                    new MapTask(this.function, this.values, this.results, middle, this.to, this.threshold));
+        }
+    }
+}
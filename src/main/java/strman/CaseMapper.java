@@ -0,0 +1,211 @@
+/*
+ *
+ *  * The MIT License
+ *  *
+ *  * Copyright 2016 Shekhar Gulati <shekhargulati84@gmail.com>.
+ *  *
+ *  * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  * of this software and associated documentation files (the "Software"), to deal
+ *  * in the Software without restriction, including without limitation the rights
+ *  * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  * copies of the Software, and to permit persons to whom the Software is
+ *  * furnished to do so, subject to the following conditions:
+ *  *
+ *  * The above copyright notice and this permission notice shall be included in
+ *  * all copies or substantial portions of the Software.
+ *  *
+ *  * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  * THE SOFTWARE.
+ *
+ */
+
+
+package strman;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Case tests and case swapping by code point. Latin-1 chars are answered from tables built once. Other code points
+ * go through {@link Character}, except for the few whose full case mapping has a different length, such as "ß"
+ * which upper cases to "SS".
+ */
+abstract class CaseMapper {
+
+    private static final byte UPPER = 1;
+    private static final byte LOWER = 2;
+    // the swapped case is not a single char, see Specials
+    private static final byte SPECIAL = 4;
+
+    private static final byte[] LATIN1_CASE = new byte[256];
+    private static final char[] LATIN1_SWAPPED = new char[256];
+
+    static {
+        for (char ch = 0; ch < 256; ch++) {
+            if (Character.isUpperCase(ch)) {
+                LATIN1_CASE[ch] = UPPER;
+                LATIN1_SWAPPED[ch] = Character.toLowerCase(ch);
+            } else {
+                LATIN1_CASE[ch] = Character.isLowerCase(ch) ? LOWER : 0;
+                LATIN1_SWAPPED[ch] = Character.toUpperCase(ch);
+            }
+            if (Character.isLetter(ch) && String.valueOf(ch).toUpperCase(Locale.ROOT).length() != 1) {
+                LATIN1_CASE[ch] |= SPECIAL;
+            }
+        }
+    }
+
+    /**
+     * Tests whether value has no lower case code point
+     */
+    static boolean isUpperCase(final String value) {
+        return hasNo(value, 0, value.length(), LOWER);
+    }
+
+    /**
+     * Tests whether the chars of value from from to to have no lower case code point. The range should start and
+     * end on code point boundaries.
+     */
+    static boolean isUpperCase(final String value, final int from, final int to) {
+        return hasNo(value, from, to, LOWER);
+    }
+
+    /**
+     * Tests whether value has no upper case code point
+     */
+    static boolean isLowerCase(final String value) {
+        return hasNo(value, 0, value.length(), UPPER);
+    }
+
+    /**
+     * Tests whether the chars of value from from to to have no upper case code point. The range should start and
+     * end on code point boundaries.
+     */
+    static boolean isLowerCase(final String value, final int from, final int to) {
+        return hasNo(value, from, to, UPPER);
+    }
+
+    private static boolean hasNo(final String value, final int from, final int to, final byte kind) {
+        for (int i = from; i < to; ) {
+            char ch = value.charAt(i);
+            if (ch < 256) {
+                if ((LATIN1_CASE[ch] & kind) != 0) {
+                    return false;
+                }
+                i++;
+                continue;
+            }
+            int codePoint = value.codePointAt(i);
+            if (kind == LOWER ? Character.isLowerCase(codePoint) : Character.isUpperCase(codePoint)) {
+                return false;
+            }
+            i += Character.charCount(codePoint);
+        }
+        return true;
+    }
+
+    /**
+     * Upper cases lower case code points and the other way round, with the full mapping where it differs in length
+     */
+    static String swapCase(final String value) {
+        int length = value.length();
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; ) {
+            char ch = value.charAt(i);
+            if (ch < 256 && (LATIN1_CASE[ch] & SPECIAL) == 0) {
+                builder.append(LATIN1_SWAPPED[ch]);
+                i++;
+                continue;
+            }
+            int codePoint = value.codePointAt(i);
+            String special = Specials.swapped(codePoint);
+            if (special != null) {
+                builder.append(special);
+            } else if (Character.isUpperCase(codePoint)) {
+                builder.appendCodePoint(Character.toLowerCase(codePoint));
+            } else {
+                builder.appendCodePoint(Character.toUpperCase(codePoint));
+            }
+            i += Character.charCount(codePoint);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Swaps the case of the first count chars of value in place, stopping at the first code point whose swapped case
+     * has a different length
+     *
+     * @return count, or the index of the code point where it stopped, which is left untouched with the chars after it
+     */
+    static int swapCase(final char[] value, final int count) {
+        for (int i = 0; i < count; ) {
+            char ch = value[i];
+            if (ch < 256 && (LATIN1_CASE[ch] & SPECIAL) == 0) {
+                value[i++] = LATIN1_SWAPPED[ch];
+                continue;
+            }
+            int codePoint = Character.codePointAt(value, i, count);
+            if (Specials.swapped(codePoint) != null) {
+                return i;
+            }
+            int swapped = Character.isUpperCase(codePoint) ? Character.toLowerCase(codePoint)
+                    : Character.toUpperCase(codePoint);
+            int charCount = Character.charCount(codePoint);
+            if (Character.charCount(swapped) != charCount) {
+                return i;
+            }
+            Character.toChars(swapped, value, i);
+            i += charCount;
+        }
+        return count;
+    }
+
+    /**
+     * Swapped case of the cased chars whose full mapping is longer than one char, as chars sorted in ascending order
+     * with their swapped case at the same index. None of them is supplementary.
+     */
+    private static final class Specials {
+
+        private static final char[] CHARS;
+        private static final String[] SWAPPED;
+
+        static {
+            char[] chars = new char[256];
+            String[] swappedCases = new String[chars.length];
+            int size = 0;
+            for (char ch = 0; ch < Character.MAX_VALUE; ch++) {
+                if (Character.isUpperCase(ch) || Character.isLowerCase(ch) || Character.isTitleCase(ch)) {
+                    String value = String.valueOf(ch);
+                    String swapped = Character.isUpperCase(ch) ? value.toLowerCase(Locale.ROOT)
+                            : value.toUpperCase(Locale.ROOT);
+                    if (swapped.length() != 1) {
+                        if (size == chars.length) {
+                            chars = Arrays.copyOf(chars, size * 2);
+                            swappedCases = Arrays.copyOf(swappedCases, size * 2);
+                        }
+                        chars[size] = ch;
+                        swappedCases[size++] = swapped;
+                    }
+                }
+            }
+            CHARS = Arrays.copyOf(chars, size);
+            SWAPPED = Arrays.copyOf(swappedCases, size);
+        }
+
+        /**
+         * Returns the swapped case of codePoint when it is longer than one char, or null
+         */
+        static String swapped(final int codePoint) {
+            if (codePoint < CHARS[0] || codePoint > CHARS[CHARS.length - 1]) {
+                return null;
+            }
+            int index = Arrays.binarySearch(CHARS, (char) codePoint);
+            return index >= 0 ? SWAPPED[index] : null;
+        }
+    }
+}
@@ -0,0 +1,345 @@
+/*
+ *
+ *  * The MIT License
+ *  *
+ *  * Copyright 2016 Shekhar Gulati <shekhargulati84@gmail.com>.
+ *  *
+ *  * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  * of this software and associated documentation files (the "Software"), to deal
+ *  * in the Software without restriction, including without limitation the rights
+ *  * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  * copies of the Software, and to permit persons to whom the Software is
+ *  * furnished to do so, subject to the following conditions:
+ *  *
+ *  * The above copyright notice and this permission notice shall be included in
+ *  * all copies or substantial portions of the Software.
+ *  *
+ *  * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  * THE SOFTWARE.
+ *
+ */
+
+
+package strman;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Occurrence counts of characters without boxing. Latin-1 characters are counted in a dense array and everything
+ * else, including supplementary code points, in a primitive open-addressing table.
+ */
+public final class CharHistogram {
+
+    private static final int DENSE_SIZE = 256;
+    private static final int EMPTY = -1;
+
+    private final long[] dense = new long[DENSE_SIZE];
+    private int[] keys;
+    private long[] counts;
+    private int sparseSize;
+    private int denseSize;
+    private long total;
+
+    /**
+     * Creates an empty histogram
+     */
+    public CharHistogram() {
+        this.keys = new int[16];
+        this.counts = new long[16];
+        Arrays.fill(this.keys, EMPTY);
+    }
+
+    /**
+     * Counts every char (UTF-16 code unit) of value
+     *
+     * @param value The input
+     * @return histogram of the chars of value
+     */
+    public static CharHistogram ofChars(final CharSequence value) {
+        CharHistogram histogram = new CharHistogram();
+        return histogram.addChars(value, 0, value.length());
+    }
+
+    /**
+     * Counts every code point of value. Surrogate pairs are counted as one supplementary code point.
+     *
+     * @param value The input
+     * @return histogram of the code points of value
+     */
+    public static CharHistogram ofCodePoints(final CharSequence value) {
+        CharHistogram histogram = new CharHistogram();
+        int length = value.length();
+        for (int i = 0; i < length; ) {
+            int codePoint = Character.codePointAt(value, i);
+            histogram.add(codePoint);
+            i += Character.charCount(codePoint);
+        }
+        return histogram;
+    }
+
+    /**
+     * Counts the chars of value in the range [from, to)
+     *
+     * @param value The input
+     * @param from  index of the first char to count
+     * @param to    index after the last char to count
+     * @return this histogram
+     */
+    public CharHistogram addChars(final CharSequence value, final int from, final int to) {
+        for (int i = from; i < to; i++) {
+            add(value.charAt(i));
+        }
+        return this;
+    }
+
+    /**
+     * Adds one occurrence of codePoint
+     *
+     * @param codePoint the char or code point to count
+     */
+    public void add(final int codePoint) {
+        add(codePoint, 1L);
+    }
+
+    /**
+     * Adds occurrences of codePoint
+     *
+     * @param codePoint   the char or code point to count
+     * @param occurrences number of occurrences to add
+     */
+    public void add(final int codePoint, final long occurrences) {
+        if (codePoint < 0 || codePoint > Character.MAX_CODE_POINT) {
+            throw new IllegalArgumentException("Invalid code point " + codePoint);
+        }
+        if (occurrences == 0) {
+            return;
+        }
+        this.total += occurrences;
+        if (codePoint < DENSE_SIZE) {
+            if (this.dense[codePoint] == 0) {
+                this.denseSize++;
+            }
+            this.dense[codePoint] += occurrences;
+            return;
+        }
+        int slot = slot(codePoint);
+        if (this.keys[slot] == EMPTY) {
+            this.keys[slot] = codePoint;
+            this.sparseSize++;
+            if (this.sparseSize * 2 > this.keys.length) {
+                this.counts[slot] = occurrences;
+                resize();
+                return;
+            }
+        }
+        this.counts[slot] += occurrences;
+    }
+
+    /**
+     * Returns the number of occurrences of codePoint
+     *
+     * @param codePoint the char or code point
+     * @return number of occurrences, zero if it never occurred
+     */
+    public long count(final int codePoint) {
+        if (codePoint >= 0 && codePoint < DENSE_SIZE) {
+            return this.dense[codePoint];
+        }
+        int slot = slot(codePoint);
+        return this.keys[slot] == codePoint ? this.counts[slot] : 0L;
+    }
+
+    /**
+     * Returns the number of counted occurrences of all chars
+     *
+     * @return total count
+     */
+    public long total() {
+        return this.total;
+    }
+
+    /**
+     * Returns the number of distinct chars or code points counted
+     *
+     * @return number of distinct chars
+     */
+    public int distinct() {
+        return this.denseSize + this.sparseSize;
+    }
+
+    /**
+     * Adds all the counts of other to this histogram
+     *
+     * @param other histogram to merge
+     * @return this histogram
+     */
+    public CharHistogram merge(final CharHistogram other) {
+        for (int i = 0; i < DENSE_SIZE; i++) {
+            add(i, other.dense[i]);
+        }
+        for (int i = 0; i < other.keys.length; i++) {
+            if (other.keys[i] != EMPTY) {
+                add(other.keys[i], other.counts[i]);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Returns the n most frequent chars, most frequent first. Ties are ordered by char value.
+     *
+     * @param n number of chars to return
+     * @return at most n chars or code points
+     */
+    public int[] topN(final int n) {
+        int size = Math.min(n, distinct());
+        if (size <= 0) {
+            return new int[0];
+        }
+        // min-heap on (count, -codePoint) holding the best candidates seen so far
+        int[] heapKeys = new int[size];
+        long[] heapCounts = new long[size];
+        int[] heapSize = {0};
+        forEach((codePoint, count) -> {
+            if (heapSize[0] < size) {
+                heapKeys[heapSize[0]] = codePoint;
+                heapCounts[heapSize[0]] = count;
+                siftUp(heapKeys, heapCounts, heapSize[0]++);
+            } else if (isBefore(codePoint, count, heapKeys[0], heapCounts[0])) {
+                heapKeys[0] = codePoint;
+                heapCounts[0] = count;
+                siftDown(heapKeys, heapCounts, size);
+            }
+        });
+        int[] top = new int[size];
+        for (int i = size - 1; i >= 0; i--) {
+            top[i] = heapKeys[0];
+            heapKeys[0] = heapKeys[i];
+            heapCounts[0] = heapCounts[i];
+            siftDown(heapKeys, heapCounts, i);
+        }
+        return top;
+    }
+
+    /**
+     * Calls consumer for every counted char. Latin-1 chars come first in ascending order, the others follow in
+     * no particular order.
+     *
+     * @param consumer receives each char or code point with its count
+     */
+    public void forEach(final CodePointCounter consumer) {
+        for (int i = 0; i < DENSE_SIZE; i++) {
+            if (this.dense[i] != 0) {
+                consumer.accept(i, this.dense[i]);
+            }
+        }
+        for (int i = 0; i < this.keys.length; i++) {
+            if (this.keys[i] != EMPTY) {
+                consumer.accept(this.keys[i], this.counts[i]);
+            }
+        }
+    }
+
+    /**
+     * Returns the counts as a map from char to count. Code points outside the BMP are not representable as a
+     * Character and are left out.
+     *
+     * @return map containing the number of occurrences of each char
+     */
+    public Map<Character, Long> toMap() {
+        Map<Character, Long> map = new HashMap<>(distinct() * 4 / 3 + 1);
+        forEach((codePoint, count) -> {
+            if (codePoint <= Character.MAX_VALUE) {
+                map.put((char) codePoint, count);
+            }
+        });
+        return map;
+    }
+
+    private int slot(final int codePoint) {
+        int mask = this.keys.length - 1;
+        int hash = codePoint * 0x9E3779B9;
+        int slot = (hash ^ hash >>> 16) & mask;
+        while (this.keys[slot] != EMPTY && this.keys[slot] != codePoint) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void resize() {
+        int[] oldKeys = this.keys;
+        long[] oldCounts = this.counts;
+        this.keys = new int[oldKeys.length * 2];
+        this.counts = new long[oldKeys.length * 2];
+        Arrays.fill(this.keys, EMPTY);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int slot = slot(oldKeys[i]);
+                this.keys[slot] = oldKeys[i];
+                this.counts[slot] = oldCounts[i];
+            }
+        }
+    }
+
+    private static boolean isBefore(int codePoint, long count, int otherCodePoint, long otherCount) {
+        return count > otherCount || (count == otherCount && codePoint < otherCodePoint);
+    }
+
+    private static void siftUp(int[] keys, long[] counts, int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!isBefore(keys[parent], counts[parent], keys[index], counts[index])) {
+                return;
+            }
+            swap(keys, counts, parent, index);
+            index = parent;
+        }
+    }
+
+    private static void siftDown(int[] keys, long[] counts, int size) {
+        int index = 0;
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= size) {
+                return;
+            }
+            if (child + 1 < size && isBefore(keys[child], counts[child], keys[child + 1], counts[child + 1])) {
+                child++;
+            }
+            if (!isBefore(keys[index], counts[index], keys[child], counts[child])) {
+                return;
+            }
+            swap(keys, counts, index, child);
+            index = child;
+        }
+    }
+
+    private static void swap(int[] keys, long[] counts, int i, int j) {
+        int key = keys[i];
+        keys[i] = keys[j];
+        keys[j] = key;
+        long count = counts[i];
+        counts[i] = counts[j];
+        counts[j] = count;
+    }
+
+    /**
+     * Receives a char or code point together with its count
+     */
+    @FunctionalInterface
+    public interface CodePointCounter {
+
+        /**
+         * @param codePoint the char or code point
+         * @param count     its number of occurrences
+         */
+        void accept(int codePoint, long count);
+    }
+}
@@ -0,0 +1,262 @@
+/*
+ *
+ *  * The MIT License
+ *  *
+ *  * Copyright 2016 Shekhar Gulati <shekhargulati84@gmail.com>.
+ *  *
+ *  * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  * of this software and associated documentation files (the "Software"), to deal
+ *  * in the Software without restriction, including without limitation the rights
+ *  * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  * copies of the Software, and to permit persons to whom the Software is
+ *  * furnished to do so, subject to the following conditions:
+ *  *
+ *  * The above copyright notice and this permission notice shall be included in
+ *  * all copies or substantial portions of the Software.
+ *  *
+ *  * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  * THE SOFTWARE.
+ *
+ */
+
+
+package strman;
+
+import java.util.Arrays;
+
+/**
+ * A trie over chars with nodes numbered from zero, the root. Transitions are kept in a primitive open-addressing
+ * table keyed by (node, char) and every node also links its children for traversal. With case folding every
+ * char is folded before it is stored or looked up.
+ */
+final class CharTrie {
+
+    static final int ROOT = 0;
+    static final int NONE = -1;
+
+    private static final long EMPTY = -1L;
+
+    private final boolean ignoreCase;
+    private long[] keys = new long[64];
+    private int[] targets = new int[64];
+    private int transitions;
+
+    private int nodes = 1;
+    private int[] depth = new int[16];
+    private int[] value = filled(16);
+    private int[] firstChild = filled(16);
+    private int[] nextSibling = filled(16);
+    private char[] label = new char[16];
+
+    CharTrie(final boolean ignoreCase) {
+        this.ignoreCase = ignoreCase;
+        Arrays.fill(this.keys, EMPTY);
+    }
+
+    /**
+     * Folds a char for case insensitive comparison, the same way {@link String#regionMatches(boolean, int,
+     * String, int, int)} compares chars
+     */
+    static char fold(final char ch) {
+        if (ch < 0x80) {
+            return ch >= 'A' && ch <= 'Z' ? (char) (ch + ('a' - 'A')) : ch;
+        }
+        return Character.toLowerCase(Character.toUpperCase(ch));
+    }
+
+    boolean ignoreCase() {
+        return this.ignoreCase;
+    }
+
+    /**
+     * Adds key, read backwards when reversed is true, and marks its node with value unless the node already has
+     * one. Returns the node of the key.
+     */
+    int add(final CharSequence key, final int value, final boolean reversed) {
+        int node = ROOT;
+        int length = key.length();
+        for (int i = 0; i < length; i++) {
+            char ch = key.charAt(reversed ? length - 1 - i : i);
+            int child = next(node, ch);
+            node = child == NONE ? addChild(node, this.ignoreCase ? fold(ch) : ch) : child;
+        }
+        if (this.value[node] == NONE) {
+            this.value[node] = value;
+        }
+        return node;
+    }
+
+    /**
+     * Returns the child of node for ch or NONE
+     */
+    int next(final int node, final char ch) {
+        long key = key(node, this.ignoreCase ? fold(ch) : ch);
+        int mask = this.keys.length - 1;
+        int slot = hash(key) & mask;
+        while (this.keys[slot] != EMPTY) {
+            if (this.keys[slot] == key) {
+                return this.targets[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return NONE;
+    }
+
+    /**
+     * Returns the length of the longest key value starts with, or ends with when reversed, or NONE
+     */
+    int longestKey(final CharSequence value, final boolean reversed) {
+        int length = value.length();
+        int node = ROOT;
+        int longest = this.value[ROOT] != NONE ? 0 : NONE;
+        for (int i = 0; i < length && node != NONE; i++) {
+            node = next(node, value.charAt(reversed ? length - 1 - i : i));
+            if (node != NONE && this.value[node] != NONE) {
+                longest = i + 1;
+            }
+        }
+        return longest;
+    }
+
+    /**
+     * Returns the length of the shortest key value starts with, or ends with when reversed, or NONE
+     */
+    int shortestKey(final CharSequence value, final boolean reversed) {
+        int length = value.length();
+        int node = ROOT;
+        for (int i = 0; this.value[node] == NONE; i++) {
+            if (i == length) {
+                return NONE;
+            }
+            node = next(node, value.charAt(reversed ? length - 1 - i : i));
+            if (node == NONE) {
+                return NONE;
+            }
+        }
+        return this.depth[node];
+    }
+
+    /**
+     * Returns the node of the longest key text has at from, or NONE
+     */
+    int longestKeyAt(final CharSequence text, final int from) {
+        int node = ROOT;
+        int longest = this.value[ROOT] != NONE ? ROOT : NONE;
+        for (int i = from; i < text.length(); i++) {
+            node = next(node, text.charAt(i));
+            if (node == NONE) {
+                break;
+            }
+            if (this.value[node] != NONE) {
+                longest = node;
+            }
+        }
+        return longest;
+    }
+
+    /**
+     * Tests whether text is a proper prefix of a key
+     */
+    boolean isProperPrefix(final CharSequence text) {
+        int node = ROOT;
+        for (int i = 0; i < text.length() && node != NONE; i++) {
+            node = next(node, text.charAt(i));
+        }
+        return node != NONE && this.firstChild[node] != NONE;
+    }
+
+    int size() {
+        return this.nodes;
+    }
+
+    int depth(final int node) {
+        return this.depth[node];
+    }
+
+    int value(final int node) {
+        return this.value[node];
+    }
+
+    int firstChild(final int node) {
+        return this.firstChild[node];
+    }
+
+    int nextSibling(final int node) {
+        return this.nextSibling[node];
+    }
+
+    char label(final int node) {
+        return this.label[node];
+    }
+
+    private int addChild(final int parent, final char ch) {
+        int node = this.nodes++;
+        if (node == this.depth.length) {
+            int capacity = node * 2;
+            this.depth = Arrays.copyOf(this.depth, capacity);
+            this.value = grow(this.value, capacity);
+            this.firstChild = grow(this.firstChild, capacity);
+            this.nextSibling = grow(this.nextSibling, capacity);
+            this.label = Arrays.copyOf(this.label, capacity);
+        }
+        this.depth[node] = this.depth[parent] + 1;
+        this.label[node] = ch;
+        this.nextSibling[node] = this.firstChild[parent];
+        this.firstChild[parent] = node;
+        if (++this.transitions * 2 > this.keys.length) {
+            rehash();
+        }
+        put(key(parent, ch), node);
+        return node;
+    }
+
+    private void put(final long key, final int target) {
+        int mask = this.keys.length - 1;
+        int slot = hash(key) & mask;
+        while (this.keys[slot] != EMPTY) {
+            slot = (slot + 1) & mask;
+        }
+        this.keys[slot] = key;
+        this.targets[slot] = target;
+    }
+
+    private void rehash() {
+        long[] oldKeys = this.keys;
+        int[] oldTargets = this.targets;
+        this.keys = new long[oldKeys.length * 2];
+        this.targets = new int[oldKeys.length * 2];
+        Arrays.fill(this.keys, EMPTY);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                put(oldKeys[i], oldTargets[i]);
+            }
+        }
+    }
+
+    private static long key(final int node, final char ch) {
+        return (long) node << 16 | ch;
+    }
+
+    private static int hash(final long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ hash >>> 32);
+    }
+
+    private static int[] filled(final int capacity) {
+        int[] array = new int[capacity];
+        Arrays.fill(array, NONE);
+        return array;
+    }
+
+    private static int[] grow(final int[] array, final int capacity) {
+        int length = array.length;
+        int[] grown = Arrays.copyOf(array, capacity);
+        Arrays.fill(grown, length, capacity, NONE);
+        return grown;
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ *
+ *  * The MIT License
+ *  *
+ *  * Copyright 2016 Shekhar Gulati <shekhargulati84@gmail.com>.
+ *  *
+ *  * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  * of this software and associated documentation files (the "Software"), to deal
+ *  * in the Software without restriction, including without limitation the rights
+ *  * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  * copies of the Software, and to permit persons to whom the Software is
+ *  * furnished to do so, subject to the following conditions:
+ *  *
+ *  * The above copyright notice and this permission notice shall be included in
+ *  * all copies or substantial portions of the Software.
+ *  *
+ *  * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  * THE SOFTWARE.
+ *
+ */
+
+
+package strman;
+
+/**
+ * A reusable buffer of code points. Loading a value decodes it into an int array which is kept and only grown, so
+ * iterating over the code points of many values allocates nothing once the buffer is large enough.
+ * <p>
+ * Not thread safe; give each thread its own buffer.
+ */
+public final class CodePointBuffer {
+
+    private int[] codePoints;
+    private int length;
+
+    public CodePointBuffer() {
+        this(16);
+    }
+
+    /**
+     * @param capacity initial number of code points the buffer can hold
+     */
+    public CodePointBuffer(final int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity should not be negative");
+        }
+        this.codePoints = new int[capacity];
+    }
+
+    /**
+     * Replaces the content of this buffer with the code points of value. An unpaired surrogate is kept as a code
+     * point of its own.
+     *
+     * @param value the chars to decode
+     * @return this buffer
+     */
+    public CodePointBuffer load(final CharSequence value) {
+        if (value == null) {
+            throw new IllegalArgumentException("'value' should be not null.");
+        }
+        if (this.codePoints.length < value.length()) {
+            this.codePoints = new int[Math.max(value.length(), this.codePoints.length * 2)];
+        }
+        this.length = Strman.codePoints(value, this.codePoints);
+        return this;
+    }
+
+    /**
+     * @return number of code points in this buffer
+     */
+    public int length() {
+        return this.length;
+    }
+
+    /**
+     * @param index index of the code point, from 0 to length() - 1
+     * @return the code point at index
+     */
+    public int get(final int index) {
+        checkIndex(index);
+        return this.codePoints[index];
+    }
+
+    /**
+     * @param index     index of the code point, from 0 to length() - 1
+     * @param codePoint the new code point
+     * @return this buffer
+     */
+    public CodePointBuffer set(final int index, final int codePoint) {
+        checkIndex(index);
+        if (!Character.isValidCodePoint(codePoint)) {
+            throw new IllegalArgumentException("Invalid code point " + codePoint);
+        }
+        this.codePoints[index] = codePoint;
+        return this;
+    }
+
+    /**
+     * Returns the backing array, whose first length() elements are the code points. The array is reused by the next
+     * load.
+     *
+     * @return the backing array
+     */
+    public int[] array() {
+        return this.codePoints;
+    }
+
+    /**
+     * Reverses the order of the code points in place
+     *
+     * @return this buffer
+     */
+    public CodePointBuffer reverse() {
+        for (int i = 0, j = this.length - 1; i < j; i++, j--) {
+            int codePoint = this.codePoints[i];
+            this.codePoints[i] = this.codePoints[j];
+            this.codePoints[j] = codePoint;
+        }
+        return this;
+    }
+
+    /**
+     * Appends the code points to builder as UTF-16
+     *
+     * @param builder where to append
+     * @return builder
+     */
+    public StringBuilder appendTo(final StringBuilder builder) {
+        for (int i = 0; i < this.length; i++) {
+            builder.appendCodePoint(this.codePoints[i]);
+        }
+        return builder;
+    }
+
+    @Override
+    public String toString() {
+        return new String(this.codePoints, 0, this.length);
+    }
+
+    private void checkIndex(final int index) {
+        if (index < 0 || index >= this.length) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + this.length);
+        }
+    }
+}
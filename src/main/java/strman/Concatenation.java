@@ -0,0 +1,153 @@
+/*
+ *
+ *  * The MIT License
+ *  *
+ *  * Copyright 2016 Shekhar Gulati <shekhargulati84@gmail.com>.
+ *  *
+ *  * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  * of this software and associated documentation files (the "Software"), to deal
+ *  * in the Software without restriction, including without limitation the rights
+ *  * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  * copies of the Software, and to permit persons to whom the Software is
+ *  * furnished to do so, subject to the following conditions:
+ *  *
+ *  * The above copyright notice and this permission notice shall be included in
+ *  * all copies or substantial portions of the Software.
+ *  *
+ *  * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  * THE SOFTWARE.
+ *
+ */
+
+
+package strman;
+
+import java.util.Arrays;
+
+/**
+ * Builds concatenated Strings by computing the exact result length first and filling a single char array, so
+ * there are no intermediate buffers to grow or copy. Null parts are written as "null", like
+ * {@link java.util.StringJoiner} does.
+ */
+final class Concatenation {
+
+    private Concatenation() {
+    }
+
+    static String append(final String value, final String[] appends) {
+        long length = value.length();
+        for (String append : appends) {
+            length += String.valueOf(append).length();
+        }
+        char[] result = allocate(length);
+        int position = put(value, result, 0);
+        for (String append : appends) {
+            position = put(String.valueOf(append), result, position);
+        }
+        return new String(result);
+    }
+
+    static String prepend(final String value, final String[] prepends) {
+        long length = value.length();
+        for (String prepend : prepends) {
+            length += String.valueOf(prepend).length();
+        }
+        char[] result = allocate(length);
+        int position = 0;
+        for (String prepend : prepends) {
+            position = put(String.valueOf(prepend), result, position);
+        }
+        put(value, result, position);
+        return new String(result);
+    }
+
+    static String insert(final String value, final String substr, final int index) {
+        char[] result = allocate((long) value.length() + substr.length());
+        value.getChars(0, index, result, 0);
+        substr.getChars(0, substr.length(), result, index);
+        value.getChars(index, value.length(), result, index + substr.length());
+        return new String(result);
+    }
+
+    static String join(final String[] strings, final String separator) {
+        if (strings.length == 0) {
+            return "";
+        }
+        long length = (long) separator.length() * (strings.length - 1);
+        for (String string : strings) {
+            length += String.valueOf(string).length();
+        }
+        char[] result = allocate(length);
+        int position = put(String.valueOf(strings[0]), result, 0);
+        for (int i = 1; i < strings.length; i++) {
+            position = put(separator, result, position);
+            position = put(String.valueOf(strings[i]), result, position);
+        }
+        return new String(result);
+    }
+
+    static String repeat(final String value, final int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("count should not be negative");
+        }
+        if (count == 0 || value.isEmpty()) {
+            return "";
+        }
+        if (count == 1) {
+            return value;
+        }
+        char[] result = allocate((long) value.length() * count);
+        fill(value, result, 0, result.length);
+        return new String(result);
+    }
+
+    /**
+     * Puts count copies of pad on the left or the right of value
+     */
+    static String pad(final String value, final String pad, final int count, final boolean left) {
+        if (count <= 0 || pad.isEmpty()) {
+            return value;
+        }
+        int padLength = pad.length() * count;
+        char[] result = allocate((long) value.length() + (long) pad.length() * count);
+        int padStart = left ? 0 : value.length();
+        value.getChars(0, value.length(), result, left ? padLength : 0);
+        if (pad.length() == 1) {
+            Arrays.fill(result, padStart, padStart + padLength, pad.charAt(0));
+        } else {
+            fill(pad, result, padStart, padStart + padLength);
+        }
+        return new String(result);
+    }
+
+    /**
+     * Fills result[from, to) with copies of value, doubling the filled region with every copy
+     */
+    private static void fill(final String value, final char[] result, final int from, final int to) {
+        value.getChars(0, value.length(), result, from);
+        int filled = value.length();
+        int total = to - from;
+        while (filled < total) {
+            int copy = Math.min(filled, total - filled);
+            System.arraycopy(result, from, result, from + filled, copy);
+            filled += copy;
+        }
+    }
+
+    private static int put(final String part, final char[] result, final int position) {
+        part.getChars(0, part.length(), result, position);
+        return position + part.length();
+    }
+
+    private static char[] allocate(final long length) {
+        if (length > Integer.MAX_VALUE - 8) {
+            throw new OutOfMemoryError("Required length exceeds implementation limit");
+        }
+        return new char[(int) length];
+    }
+}
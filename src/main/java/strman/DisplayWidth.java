@@ -0,0 +1,119 @@
+/*
+ *
+ *  * The MIT License
+ *  *
+ *  * Copyright 2016 Shekhar Gulati <shekhargulati84@gmail.com>.
+ *  *
+ *  * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  * of this software and associated documentation files (the "Software"), to deal
+ *  * in the Software without restriction, including without limitation the rights
+ *  * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  * copies of the Software, and to permit persons to whom the Software is
+ *  * furnished to do so, subject to the following conditions:
+ *  *
+ *  * The above copyright notice and this permission notice shall be included in
+ *  * all copies or substantial portions of the Software.
+ *  *
+ *  * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  * THE SOFTWARE.
+ *
+ */
+
+
+package strman;
+
+/**
+ * Terminal column widths of code points, as wcwidth computes them: East Asian Wide and Fullwidth characters take
+ * two columns, combining marks, format characters and controls take none, and everything else takes one. Widths of
+ * the Basic Multilingual Plane are precomputed at two bits per char. Supplementary code points are looked up in the
+ * wide ranges table.
+ */
+abstract class DisplayWidth {
+
+    /**
+     * Returns the number of columns value takes
+     */
+    static int of(final CharSequence value) {
+        int length = value.length();
+        int i = 0;
+        while (i < length && value.charAt(i) >= ' ' && value.charAt(i) < 0x7F) {
+            i++;
+        }
+        int width = i;
+        while (i < length) {
+            int codePoint = Character.codePointAt(value, i);
+            width += of(codePoint);
+            i += Character.charCount(codePoint);
+        }
+        return width;
+    }
+
+    static int of(final int codePoint) {
+        if (codePoint >= ' ' && codePoint < 0x7F) {
+            return 1;
+        }
+        if (codePoint <= Character.MAX_VALUE) {
+            return (int) (Tables.BMP[codePoint >>> 5] >>> ((codePoint & 31) << 1)) & 3;
+        }
+        if (isZeroWidth(codePoint)) {
+            return 0;
+        }
+        return Tables.isWide(codePoint) ? 2 : 1;
+    }
+
+    private static boolean isZeroWidth(final int codePoint) {
+        switch (Character.getType(codePoint)) {
+            case Character.NON_SPACING_MARK:
+            case Character.ENCLOSING_MARK:
+            case Character.FORMAT:
+            case Character.CONTROL:
+                // the soft hyphen is shown where it breaks a line
+                return codePoint != 0xAD;
+            default:
+                // Hangul medial vowels and final consonants join the initial consonant before them
+                return codePoint >= 0x1160 && codePoint <= 0x11FF;
+        }
+    }
+
+    private static final class Tables {
+
+        private static final int[] WIDE_FIRST;
+        private static final int[] WIDE_LAST;
+        private static final long[] BMP = new long[(Character.MAX_VALUE + 1) >>> 5];
+
+        static {
+            Table table = Table.load("east-asian-wide");
+            WIDE_FIRST = new int[table.rows()];
+            WIDE_LAST = new int[table.rows()];
+            for (int row = 0; row < table.rows(); row++) {
+                WIDE_FIRST[row] = Integer.parseInt(table.field(row, 0), 16);
+                WIDE_LAST[row] = Integer.parseInt(table.field(row, 1), 16);
+            }
+            for (int ch = 0; ch <= Character.MAX_VALUE; ch++) {
+                long width = isZeroWidth(ch) ? 0 : isWide(ch) ? 2 : 1;
+                BMP[ch >>> 5] |= width << ((ch & 31) << 1);
+            }
+        }
+
+        private static boolean isWide(final int codePoint) {
+            int low = 0;
+            int high = WIDE_FIRST.length - 1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                if (WIDE_LAST[middle] < codePoint) {
+                    low = middle + 1;
+                } else if (WIDE_FIRST[middle] > codePoint) {
+                    high = middle - 1;
+                } else {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ *
+ *  * The MIT License
+ *  *
+ *  * Copyright 2016 Shekhar Gulati <shekhargulati84@gmail.com>.
+ *  *
+ *  * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  * of this software and associated documentation files (the "Software"), to deal
+ *  * in the Software without restriction, including without limitation the rights
+ *  * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  * copies of the Software, and to permit persons to whom the Software is
+ *  * furnished to do so, subject to the following conditions:
+ *  *
+ *  * The above copyright notice and this permission notice shall be included in
+ *  * all copies or substantial portions of the Software.
+ *  *
+ *  * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  * THE SOFTWARE.
+ *
+ */
+
+
+package strman;
+
+import java.util.Arrays;
+
+/**
+ * A list of insertions, deletions and replacements at offsets of the original value. All the offsets refer to
+ * the value before any edit, so callers don't have to shift them, and the edits are applied together in one pass
+ * into a buffer of the exact result size.
+ */
+public final class Edits {
+
+    private int size;
+    private int[] offsets = new int[8];
+    private int[] deleteLengths = new int[8];
+    private CharSequence[] texts = new CharSequence[8];
+
+    /**
+     * Inserts text at offset. Insertions at the same offset are applied in the order they were added, and before
+     * any deletion or replacement starting at that offset whatever the order in which they were added.
+     *
+     * @param offset offset in the original value
+     * @param text   The String to insert
+     * @return this instance
+     */
+    public Edits insert(final int offset, final CharSequence text) {
+        return replace(offset, 0, text);
+    }
+
+    /**
+     * Deletes length chars starting at offset
+     *
+     * @param offset offset in the original value
+     * @param length number of chars to delete
+     * @return this instance
+     */
+    public Edits delete(final int offset, final int length) {
+        return replace(offset, length, "");
+    }
+
+    /**
+     * Replaces length chars starting at offset with text
+     *
+     * @param offset offset in the original value
+     * @param length number of chars to replace
+     * @param text   The replacement
+     * @return this instance
+     */
+    public Edits replace(final int offset, final int length, final CharSequence text) {
+        if (offset < 0 || length < 0) {
+            throw new IllegalArgumentException("offset and length should not be negative");
+        }
+        if (text == null) {
+            throw new IllegalArgumentException("'text' should be not null.");
+        }
+        if (this.size == this.offsets.length) {
+            this.offsets = Arrays.copyOf(this.offsets, this.size * 2);
+            this.deleteLengths = Arrays.copyOf(this.deleteLengths, this.size * 2);
+            this.texts = Arrays.copyOf(this.texts, this.size * 2);
+        }
+        this.offsets[this.size] = offset;
+        this.deleteLengths[this.size] = length;
+        this.texts[this.size++] = text;
+        return this;
+    }
+
+    /**
+     * Returns the number of edits
+     *
+     * @return number of edits added so far
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Removes all the edits so the instance can be reused
+     *
+     * @return this instance
+     */
+    public Edits clear() {
+        Arrays.fill(this.texts, 0, this.size, null);
+        this.size = 0;
+        return this;
+    }
+
+    /**
+     * Applies all the edits to value
+     *
+     * @param value The input
+     * @return value with all the edits applied
+     * @throws IllegalArgumentException when an edit is out of the bounds of value or two edits overlap. An
+     *                                  insertion at the start or end of a deleted range doesn't overlap it
+     */
+    public String applyTo(final CharSequence value) {
+        if (value == null) {
+            throw new IllegalArgumentException("'value' should be not null.");
+        }
+        int[] order = sortedOrder();
+        int length = value.length();
+        int resultLength = length;
+        int previousEnd = 0;
+        for (int index : order) {
+            int offset = this.offsets[index];
+            int end = offset + this.deleteLengths[index];
+            if (end > length || end < offset) {
+                throw new IllegalArgumentException("Edit at " + offset + " is out of bounds of value of length "
+                        + length);
+            }
+            if (offset < previousEnd) {
+                throw new IllegalArgumentException("Edit at " + offset + " overlaps the edit ending at "
+                        + previousEnd);
+            }
+            previousEnd = end;
+            resultLength += this.texts[index].length() - this.deleteLengths[index];
+        }
+        char[] result = new char[resultLength];
+        int read = 0;
+        int write = 0;
+        for (int index : order) {
+            int offset = this.offsets[index];
+            write = copy(value, read, offset, result, write);
+            CharSequence text = this.texts[index];
+            write = copy(text, 0, text.length(), result, write);
+            read = offset + this.deleteLengths[index];
+        }
+        copy(value, read, length, result, write);
+        return new String(result);
+    }
+
+    /**
+     * Returns the indexes of the edits ordered by offset, then insertions before the edits which delete chars,
+     * keeping the order in which edits of the same offset and kind were added
+     */
+    private int[] sortedOrder() {
+        long[] keys = new long[this.size];
+        for (int i = 0; i < this.size; i++) {
+            long kind = this.deleteLengths[i] == 0 ? 0 : 1L << 31;
+            keys[i] = (long) this.offsets[i] << 32 | kind | i;
+        }
+        Arrays.sort(keys);
+        int[] order = new int[this.size];
+        for (int i = 0; i < this.size; i++) {
+            order[i] = (int) keys[i] & Integer.MAX_VALUE;
+        }
+        return order;
+    }
+
+    private static int copy(CharSequence source, int from, int to, char[] destination, int position) {
+        if (source instanceof String) {
+            ((String) source).getChars(from, to, destination, position);
+        } else {
+            for (int i = from; i < to; i++) {
+                destination[position + i - from] = source.charAt(i);
+            }
+        }
+        return position + to - from;
+    }
+}
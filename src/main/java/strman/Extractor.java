@@ -0,0 +1,211 @@
+/*
+ *
+ *  * The MIT License
+ *  *
+ *  * Copyright 2016 Shekhar Gulati <shekhargulati84@gmail.com>.
+ *  *
+ *  * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  * of this software and associated documentation files (the "Software"), to deal
+ *  * in the Software without restriction, including without limitation the rights
+ *  * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  * copies of the Software, and to permit persons to whom the Software is
+ *  * furnished to do so, subject to the following conditions:
+ *  *
+ *  * The above copyright notice and this permission notice shall be included in
+ *  * all copies or substantial portions of the Software.
+ *  *
+ *  * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  * THE SOFTWARE.
+ *
+ */
+
+
+package strman;
+
+import java.nio.CharBuffer;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Finds the text between start and end delimiters in a single left to right scan. Several delimiter pairs can be
+ * searched at once: the leftmost start wins, then the content runs up to the first end of that pair. Delimiters
+ * don't nest, so a start inside a content is part of it. A start without a matching end yields nothing.
+ * A compiled Extractor is immutable and can be reused across many values and threads.
+ */
+public final class Extractor {
+
+    private final String[] ends;
+    private final LiteralSearch[] endSearches;
+    // a single start is found with a literal search, several with an automaton
+    private final LiteralSearch startSearch;
+    private final AhoCorasick startAutomaton;
+    private final int[] startLengths;
+
+    private Extractor(final String[] starts, final String[] ends) {
+        this.ends = ends;
+        this.endSearches = new LiteralSearch[ends.length];
+        this.startLengths = new int[starts.length];
+        for (int i = 0; i < starts.length; i++) {
+            if (starts[i] == null || starts[i].isEmpty() || ends[i] == null || ends[i].isEmpty()) {
+                throw new IllegalArgumentException("Delimiters should not be null or empty");
+            }
+            this.endSearches[i] = new LiteralSearch(ends[i], false);
+            this.startLengths[i] = starts[i].length();
+        }
+        this.startSearch = starts.length == 1 ? new LiteralSearch(starts[0], false) : null;
+        this.startAutomaton = starts.length == 1 ? null : new AhoCorasick(starts, false);
+    }
+
+    /**
+     * Compiles an Extractor for a single delimiter pair
+     *
+     * @param start The start delimiter
+     * @param end   The end delimiter
+     * @return the compiled Extractor
+     */
+    public static Extractor compile(final String start, final String end) {
+        return new Extractor(new String[]{start}, new String[]{end});
+    }
+
+    /**
+     * Compiles an Extractor for several delimiter pairs. Pairs are numbered in the map's iteration order.
+     *
+     * @param pairs map of start delimiters to their end delimiters
+     * @return the compiled Extractor
+     */
+    public static Extractor compile(final Map<String, String> pairs) {
+        if (pairs == null || pairs.isEmpty()) {
+            throw new IllegalArgumentException("'pairs' should be not null or empty.");
+        }
+        String[] starts = pairs.keySet().toArray(new String[0]);
+        String[] ends = new String[starts.length];
+        for (int i = 0; i < starts.length; i++) {
+            ends[i] = pairs.get(starts[i]);
+        }
+        return new Extractor(starts, ends);
+    }
+
+    /**
+     * Passes the offsets of every content to consumer, in order
+     *
+     * @param value    The input
+     * @param consumer receives the pair number and the offsets of each content
+     * @return the number of contents found
+     */
+    public int forEach(final CharSequence value, final RangeConsumer consumer) {
+        if (value == null) {
+            throw new IllegalArgumentException("'value' should be not null.");
+        }
+        int[] longest = this.startAutomaton == null ? null : this.startAutomaton.longestAt(value);
+        int[] match = new int[3];
+        // once an end isn't found from some position it won't be found from any later one
+        boolean[] exhausted = new boolean[this.ends.length];
+        int remaining = this.ends.length;
+        int count = 0;
+        int position = 0;
+        while (remaining > 0 && findStart(value, longest, position, match)) {
+            int pair = match[2];
+            int contentStart = match[1];
+            int end = exhausted[pair] ? -1 : this.endSearches[pair].indexOf(value, contentStart);
+            if (end < 0) {
+                if (!exhausted[pair]) {
+                    exhausted[pair] = true;
+                    remaining--;
+                }
+                position = match[0] + 1;
+                continue;
+            }
+            consumer.accept(pair, contentStart, end);
+            count++;
+            position = end + this.ends[pair].length();
+        }
+        return count;
+    }
+
+    /**
+     * Returns the offsets of every content
+     *
+     * @param value The input
+     * @return start and end offsets of each content, two ints per content
+     */
+    public int[] offsets(final CharSequence value) {
+        OffsetCollector collector = new OffsetCollector();
+        forEach(value, collector);
+        return Arrays.copyOf(collector.offsets, collector.size);
+    }
+
+    /**
+     * Returns every content as a String
+     *
+     * @param value The input
+     * @return the contents in order
+     */
+    public String[] extract(final CharSequence value) {
+        int[] offsets = offsets(value);
+        String[] contents = new String[offsets.length / 2];
+        for (int i = 0; i < contents.length; i++) {
+            contents[i] = value.subSequence(offsets[i * 2], offsets[i * 2 + 1]).toString();
+        }
+        return contents;
+    }
+
+    /**
+     * Returns every content as a read-only view of value which doesn't copy any char
+     *
+     * @param value The input
+     * @return the contents in order
+     */
+    public CharSequence[] views(final CharSequence value) {
+        int[] offsets = offsets(value);
+        CharSequence[] contents = new CharSequence[offsets.length / 2];
+        for (int i = 0; i < contents.length; i++) {
+            contents[i] = CharBuffer.wrap(value, offsets[i * 2], offsets[i * 2 + 1]);
+        }
+        return contents;
+    }
+
+    private boolean findStart(final CharSequence value, final int[] longest, final int from, final int[] match) {
+        if (this.startAutomaton != null) {
+            return this.startAutomaton.find(longest, from, match);
+        }
+        int start = this.startSearch.indexOf(value, from);
+        match[0] = start;
+        match[1] = start + this.startLengths[0];
+        match[2] = 0;
+        return start >= 0;
+    }
+
+    private static final class OffsetCollector implements RangeConsumer {
+
+        private int[] offsets = new int[16];
+        private int size;
+
+        @Override
+        public void accept(final int pair, final int start, final int end) {
+            if (this.size == this.offsets.length) {
+                this.offsets = Arrays.copyOf(this.offsets, this.size * 2);
+            }
+            this.offsets[this.size++] = start;
+            this.offsets[this.size++] = end;
+        }
+    }
+
+    /**
+     * Receives the offsets of a content
+     */
+    @FunctionalInterface
+    public interface RangeConsumer {
+
+        /**
+         * @param pair  number of the delimiter pair
+         * @param start offset of the first char of the content
+         * @param end   offset after the last char of the content
+         */
+        void accept(int pair, int start, int end);
+    }
+}
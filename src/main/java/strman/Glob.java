@@ -0,0 +1,283 @@
+/*
+ *
+ *  * The MIT License
+ *  *
+ *  * Copyright 2016 Shekhar Gulati <shekhargulati84@gmail.com>.
+ *  *
+ *  * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  * of this software and associated documentation files (the "Software"), to deal
+ *  * in the Software without restriction, including without limitation the rights
+ *  * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  * copies of the Software, and to permit persons to whom the Software is
+ *  * furnished to do so, subject to the following conditions:
+ *  *
+ *  * The above copyright notice and this permission notice shall be included in
+ *  * all copies or substantial portions of the Software.
+ *  *
+ *  * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  * THE SOFTWARE.
+ *
+ */
+
+
+package strman;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * A compiled wildcard pattern. '*' matches any run of chars, '?' matches a single char and [...] matches a char of
+ * a class such as [abc], [a-z] or the negated [!a-z]; a backslash escapes the next char. Matching walks the value
+ * once, returning to the last star on a mismatch, so it never backtracks exponentially the way the equivalent
+ * regex can on patterns like *a*a*a*b.
+ */
+public final class Glob {
+
+    private static final int ANY = -1;
+    private static final int STAR = -2;
+    private static final int CLASS = -3;
+
+    private final String pattern;
+    private final boolean ignoreCase;
+    // a literal char when >= 0, otherwise ANY, STAR or CLASS - index of the class
+    private final int[] tokens;
+    private final CharClass[] classes;
+
+    private Glob(final String pattern, final boolean ignoreCase, final int[] tokens, final CharClass[] classes) {
+        this.pattern = pattern;
+        this.ignoreCase = ignoreCase;
+        this.tokens = tokens;
+        this.classes = classes;
+    }
+
+    /**
+     * Compiles a case sensitive glob
+     *
+     * @param pattern The wildcard pattern
+     * @return the compiled Glob
+     */
+    public static Glob compile(final String pattern) {
+        return compile(pattern, true);
+    }
+
+    /**
+     * Compiles a glob
+     *
+     * @param pattern       The wildcard pattern
+     * @param caseSensitive whether matching should be case sensitive or not
+     * @return the compiled Glob
+     */
+    public static Glob compile(final String pattern, final boolean caseSensitive) {
+        if (pattern == null) {
+            throw new IllegalArgumentException("'pattern' should be not null.");
+        }
+        boolean ignoreCase = !caseSensitive;
+        int[] tokens = new int[pattern.length()];
+        List<CharClass> classes = new ArrayList<>();
+        int size = 0;
+        int i = 0;
+        while (i < pattern.length()) {
+            char ch = pattern.charAt(i++);
+            switch (ch) {
+                case '*':
+                    if (size == 0 || tokens[size - 1] != STAR) {
+                        tokens[size++] = STAR;
+                    }
+                    break;
+                case '?':
+                    tokens[size++] = ANY;
+                    break;
+                case '[':
+                    CharClass charClass = new CharClass();
+                    i = charClass.parse(pattern, i);
+                    tokens[size++] = CLASS - classes.size();
+                    classes.add(charClass);
+                    break;
+                case '\\':
+                    if (i == pattern.length()) {
+                        throw new IllegalArgumentException("Pattern should not end with an escape: " + pattern);
+                    }
+                    ch = pattern.charAt(i++);
+                    tokens[size++] = ignoreCase ? CharTrie.fold(ch) : ch;
+                    break;
+                default:
+                    tokens[size++] = ignoreCase ? CharTrie.fold(ch) : ch;
+            }
+        }
+        return new Glob(pattern, ignoreCase, Arrays.copyOf(tokens, size), classes.toArray(new CharClass[0]));
+    }
+
+    /**
+     * Checks whether the whole value matches the pattern
+     *
+     * @param value The input
+     * @return true if value matches
+     */
+    public boolean matches(final CharSequence value) {
+        if (value == null) {
+            throw new IllegalArgumentException("'value' should be not null.");
+        }
+        int length = value.length();
+        int token = 0;
+        int position = 0;
+        int star = -1;
+        int starPosition = 0;
+        while (position < length) {
+            if (token < this.tokens.length && this.tokens[token] == STAR) {
+                star = token++;
+                starPosition = position;
+            } else if (token < this.tokens.length && matches(this.tokens[token], value.charAt(position))) {
+                token++;
+                position++;
+            } else if (star >= 0) {
+                // let the last star swallow one more char and match the rest again from there
+                token = star + 1;
+                position = ++starPosition;
+            } else {
+                return false;
+            }
+        }
+        while (token < this.tokens.length && this.tokens[token] == STAR) {
+            token++;
+        }
+        return token == this.tokens.length;
+    }
+
+    /**
+     * Converts the pattern to an equivalent regular expression, escaping literal chars like
+     * {@link Strman#escapeRegExp(String)}
+     *
+     * @return the regular expression
+     */
+    public String toRegex() {
+        StringBuilder regex = new StringBuilder();
+        StringBuilder literal = new StringBuilder();
+        for (int token : this.tokens) {
+            if (token >= 0) {
+                literal.append((char) token);
+                continue;
+            }
+            regex.append(Strman.escapeRegExp(literal.toString()));
+            literal.setLength(0);
+            if (token == STAR) {
+                regex.append(".*");
+            } else if (token == ANY) {
+                regex.append('.');
+            } else {
+                this.classes[CLASS - token].appendRegex(regex);
+            }
+        }
+        return regex.append(Strman.escapeRegExp(literal.toString())).toString();
+    }
+
+    /**
+     * Compiles the pattern to an equivalent {@link Pattern}
+     *
+     * @return the Pattern
+     */
+    public Pattern toPattern() {
+        int flags = Pattern.DOTALL;
+        if (this.ignoreCase) {
+            flags |= Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE;
+        }
+        return Pattern.compile(toRegex(), flags);
+    }
+
+    @Override
+    public String toString() {
+        return this.pattern;
+    }
+
+    private boolean matches(final int token, final char ch) {
+        if (token >= 0) {
+            return token == (this.ignoreCase ? CharTrie.fold(ch) : ch);
+        }
+        if (token == ANY) {
+            return true;
+        }
+        CharClass charClass = this.classes[CLASS - token];
+        boolean contains = charClass.contains(ch) || this.ignoreCase
+                && (charClass.contains(Character.toUpperCase(ch)) || charClass.contains(Character.toLowerCase(ch)));
+        return contains != charClass.negated;
+    }
+
+    private static final class CharClass {
+
+        private boolean negated;
+        // inclusive ranges as pairs of from and to
+        private char[] ranges = new char[8];
+        private int size;
+
+        int parse(final String pattern, int i) {
+            if (i < pattern.length() && (pattern.charAt(i) == '!' || pattern.charAt(i) == '^')) {
+                this.negated = true;
+                i++;
+            }
+            int start = i;
+            while (true) {
+                if (i >= pattern.length()) {
+                    throw new IllegalArgumentException("Unterminated character class in pattern: " + pattern);
+                }
+                char from = pattern.charAt(i++);
+                if (from == ']' && i - 1 > start) {
+                    return i;
+                }
+                if (from == '\\' && i < pattern.length()) {
+                    from = pattern.charAt(i++);
+                }
+                char to = from;
+                if (i + 1 < pattern.length() && pattern.charAt(i) == '-' && pattern.charAt(i + 1) != ']') {
+                    to = pattern.charAt(i + 1);
+                    i += 2;
+                    if (to == '\\' && i < pattern.length()) {
+                        to = pattern.charAt(i++);
+                    }
+                    if (to < from) {
+                        throw new IllegalArgumentException("Invalid range " + from + "-" + to + " in pattern: "
+                                + pattern);
+                    }
+                }
+                if (this.size == this.ranges.length) {
+                    this.ranges = Arrays.copyOf(this.ranges, this.size * 2);
+                }
+                this.ranges[this.size++] = from;
+                this.ranges[this.size++] = to;
+            }
+        }
+
+        boolean contains(final char ch) {
+            for (int i = 0; i < this.size; i += 2) {
+                if (ch >= this.ranges[i] && ch <= this.ranges[i + 1]) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        void appendRegex(final StringBuilder regex) {
+            regex.append(this.negated ? "[^" : "[");
+            for (int i = 0; i < this.size; i += 2) {
+                appendEscaped(regex, this.ranges[i]);
+                if (this.ranges[i + 1] != this.ranges[i]) {
+                    appendEscaped(regex.append('-'), this.ranges[i + 1]);
+                }
+            }
+            regex.append(']');
+        }
+
+        private static void appendEscaped(final StringBuilder regex, final char ch) {
+            if (Character.isLetterOrDigit(ch)) {
+                regex.append(ch);
+            } else {
+                regex.append(String.format("\\x{%x}", (int) ch));
+            }
+        }
+    }
+}
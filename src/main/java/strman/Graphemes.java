@@ -0,0 +1,172 @@
+/*
+ *
+ *  * The MIT License
+ *  *
+ *  * Copyright 2016 Shekhar Gulati <shekhargulati84@gmail.com>.
+ *  *
+ *  * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  * of this software and associated documentation files (the "Software"), to deal
+ *  * in the Software without restriction, including without limitation the rights
+ *  * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  * copies of the Software, and to permit persons to whom the Software is
+ *  * furnished to do so, subject to the following conditions:
+ *  *
+ *  * The above copyright notice and this permission notice shall be included in
+ *  * all copies or substantial portions of the Software.
+ *  *
+ *  * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  * THE SOFTWARE.
+ *
+ */
+
+
+package strman;
+
+import java.text.BreakIterator;
+import java.util.Arrays;
+
+/**
+ * Segmentation into user perceived characters (grapheme clusters). Break iterators are costly to create, so each
+ * thread keeps one. The emoji rules of extended grapheme clusters are applied on top of it, since before Java 20 the
+ * iterator splits flags, skin tones and zero width joiner sequences. Values without surrogates, combining marks or CRLF, which includes all ASCII and Latin-1 text,
+ * have one grapheme per char and skip segmentation.
+ */
+abstract class Graphemes {
+
+    private static final ThreadLocal<BreakIterator> ITERATOR =
+            ThreadLocal.withInitial(BreakIterator::getCharacterInstance);
+    private static final int ZWJ = 0x200D;
+
+    /**
+     * Tests whether every char of value is a grapheme on its own
+     */
+    static boolean isTrivial(final CharSequence value) {
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char ch = value.charAt(i);
+            // U+0300 is the first combining mark, everything before it is a grapheme alone except for CRLF
+            if (ch >= '\u0300' || ch == '\r' && i + 1 < length && value.charAt(i + 1) == '\n') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the grapheme boundaries of value, starting with 0 and ending with its length
+     */
+    static int[] boundaries(final String value) {
+        int length = value.length();
+        int[] boundaries = new int[length + 1];
+        int count = 0;
+        if (isTrivial(value)) {
+            for (; count <= length; count++) {
+                boundaries[count] = count;
+            }
+            return boundaries;
+        }
+        BreakIterator iterator = ITERATOR.get();
+        iterator.setText(value);
+        boundaries[count++] = 0;
+        for (int boundary = 0; boundary < length; ) {
+            boundary = next(value, boundary, iterator);
+            boundaries[count++] = boundary;
+        }
+        // drop the reference to value held by the cached iterator
+        iterator.setText("");
+        return Arrays.copyOf(boundaries, count);
+    }
+
+    /**
+     * Returns the end of the grapheme that starts at index
+     */
+    static int next(final String value, final int index) {
+        if (index + 1 >= value.length() || isSimpleBoundary(value, index + 1)) {
+            return Math.min(index + 1, value.length());
+        }
+        BreakIterator iterator = ITERATOR.get();
+        iterator.setText(value);
+        int next = next(value, index, iterator);
+        iterator.setText("");
+        return next;
+    }
+
+    static int count(final String value) {
+        if (isTrivial(value)) {
+            return value.length();
+        }
+        BreakIterator iterator = ITERATOR.get();
+        iterator.setText(value);
+        int count = 0;
+        for (int boundary = 0; boundary < value.length(); count++) {
+            boundary = next(value, boundary, iterator);
+        }
+        iterator.setText("");
+        return count;
+    }
+
+    // the iterator has value as its text
+    private static int next(final String value, final int index, final BreakIterator iterator) {
+        int end = isSimpleBoundary(value, index + 1) ? index + 1 : iterator.following(index);
+        while (end < value.length() && isExtension(value, end)) {
+            end = isSimpleBoundary(value, end + 1) ? end + 1 : iterator.following(end);
+        }
+        return end;
+    }
+
+    // two chars below the first combining mark always have a boundary between them, except for CRLF
+    private static boolean isSimpleBoundary(final String value, final int index) {
+        if (index >= value.length()) {
+            return true;
+        }
+        char before = value.charAt(index - 1);
+        char after = value.charAt(index);
+        return before < '\u0300' && after < '\u0300' && (before != '\r' || after != '\n');
+    }
+
+    /**
+     * Tests whether the code point at index continues the grapheme before it under the emoji rules of extended
+     * grapheme clusters, which the break iterators of older JDKs don't apply: emoji modifiers, variation selectors,
+     * tags and zero width joiners extend a grapheme, a pictograph after a zero width joiner joins it, and regional
+     * indicators pair up into flags.
+     */
+    private static boolean isExtension(final String value, final int index) {
+        int codePoint = value.codePointAt(index);
+        int before = value.codePointBefore(index);
+        if (codePoint == ZWJ || codePoint >= 0x1F3FB && codePoint <= 0x1F3FF
+                || codePoint >= 0xFE00 && codePoint <= 0xFE0F || codePoint >= 0xE0020 && codePoint <= 0xE007F
+                || codePoint >= 0xE0100 && codePoint <= 0xE01EF) {
+            return true;
+        }
+        if (before == ZWJ) {
+            return isPictographic(codePoint);
+        }
+        if (isRegionalIndicator(codePoint) && isRegionalIndicator(before)) {
+            // the indicators before index pair up from the start of their run, so an odd count leaves one unpaired
+            int count = 0;
+            for (int i = index; i > 0 && isRegionalIndicator(value.codePointBefore(i)); i -= 2) {
+                count++;
+            }
+            return count % 2 == 1;
+        }
+        return false;
+    }
+
+    private static boolean isRegionalIndicator(final int codePoint) {
+        return codePoint >= 0x1F1E6 && codePoint <= 0x1F1FF;
+    }
+
+    // approximates Extended_Pictographic with the blocks it is drawn from
+    private static boolean isPictographic(final int codePoint) {
+        return codePoint >= 0x1F000 && codePoint <= 0x1FAFF || codePoint >= 0x2600 && codePoint <= 0x27BF
+                || codePoint >= 0x2300 && codePoint <= 0x23FF || codePoint >= 0x2B00 && codePoint <= 0x2BFF
+                || codePoint >= 0x2190 && codePoint <= 0x21FF || codePoint == 0xA9 || codePoint == 0xAE
+                || codePoint == 0x203C || codePoint == 0x2049 || codePoint == 0x2122 || codePoint == 0x2139
+                || codePoint == 0x3030 || codePoint == 0x303D || codePoint == 0x3297 || codePoint == 0x3299;
+    }
+}
@@ -0,0 +1,1067 @@
+/*
+ *
+ *  * The MIT License
+ *  *
+ *  * Copyright 2016 Shekhar Gulati <shekhargulati84@gmail.com>.
+ *  *
+ *  * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  * of this software and associated documentation files (the "Software"), to deal
+ *  * in the Software without restriction, including without limitation the rights
+ *  * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  * copies of the Software, and to permit persons to whom the Software is
+ *  * furnished to do so, subject to the following conditions:
+ *  *
+ *  * The above copyright notice and this permission notice shall be included in
+ *  * all copies or substantial portions of the Software.
+ *  *
+ *  * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  * THE SOFTWARE.
+ *
+ */
+
+
+package strman;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A regular expression engine for the subset of java.util.regex that Strman runs: literals, escapes, character
+ * classes with the ASCII predefined classes, groups, alternation, greedy and lazy quantifiers, ^, $ and lookarounds
+ * over a fixed sequence of chars. Instead of backtracking it simulates the compiled NFA one char at a time with a
+ * prioritised thread list (a Pike VM), so matching takes time linear in the input and finds the same leftmost-first
+ * matches as java.util.regex. Patterns outside the subset, and inputs with surrogate chars, fall back to
+ * java.util.regex.
+ */
+final class LinearRegex {
+
+    private static final int CHAR = 0;
+    private static final int SPLIT = 1;
+    private static final int JMP = 2;
+    private static final int SAVE = 3;
+    private static final int BOL = 4;
+    private static final int EOL = 5;
+    private static final int LOOK = 6;
+    private static final int MATCH = 7;
+
+    private static final int MAX_PROGRAM_SIZE = 10_000;
+    private static final int MAX_REPETITION = 1_000;
+    private static final int CACHE_SIZE = 256;
+
+    private static final Map<String, Optional<LinearRegex>> CACHE = new ConcurrentHashMap<>();
+
+    private final int[] ops;
+    private final int[] x;
+    private final int[] y;
+    private final CharSet[] sets;
+    private final Look[] looks;
+    private final int groupCount;
+    private final int[] noCaptures;
+
+    private LinearRegex(final Program program, final int groupCount) {
+        this.ops = Arrays.copyOf(program.ops, program.size);
+        this.x = Arrays.copyOf(program.x, program.size);
+        this.y = Arrays.copyOf(program.y, program.size);
+        this.sets = Arrays.copyOf(program.sets, program.size);
+        this.looks = Arrays.copyOf(program.looks, program.size);
+        this.groupCount = groupCount;
+        this.noCaptures = new int[(groupCount + 1) * 2];
+        Arrays.fill(this.noCaptures, -1);
+    }
+
+    /**
+     * Compiles regex, or returns null if it is outside the supported subset
+     */
+    static LinearRegex compile(final String regex) {
+        // the program matches chars, so a supplementary code point in the pattern can't be matched as a unit
+        if (hasSurrogates(regex)) {
+            return null;
+        }
+        try {
+            Parser parser = new Parser(regex);
+            Node node = parser.parse();
+            Program program = new Program();
+            program.emit(SAVE, 0, 0);
+            node.emit(program);
+            program.emit(SAVE, 1, 0);
+            program.emit(MATCH, 0, 0);
+            return new LinearRegex(program, parser.groupCount);
+        } catch (UnsupportedPatternException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Same as {@link String#replaceAll(String, String)}
+     */
+    static String replaceAll(final String value, final String regex, final String replacement) {
+        LinearRegex compiled = cached(regex);
+        Object[] template = compiled == null ? null : compiled.parseReplacement(replacement);
+        if (template == null || hasSurrogates(value)) {
+            return value.replaceAll(regex, replacement);
+        }
+        Matcher matcher = compiled.new Matcher(value);
+        if (!matcher.find()) {
+            return value;
+        }
+        StringBuilder builder = new StringBuilder(value.length() + 16);
+        int position = 0;
+        do {
+            builder.append(value, position, matcher.captures[0]);
+            for (Object piece : template) {
+                if (piece instanceof String) {
+                    builder.append((String) piece);
+                } else {
+                    int group = (Integer) piece;
+                    if (matcher.captures[group * 2] >= 0 && matcher.captures[group * 2 + 1] >= 0) {
+                        builder.append(value, matcher.captures[group * 2], matcher.captures[group * 2 + 1]);
+                    }
+                }
+            }
+            position = matcher.captures[1];
+        } while (matcher.find());
+        return builder.append(value, position, value.length()).toString();
+    }
+
+    /**
+     * Same as {@link String#split(String)}
+     */
+    static String[] split(final String value, final String regex) {
+        LinearRegex compiled = isSplitFastPath(regex) ? null : cached(regex);
+        if (compiled == null || hasSurrogates(value)) {
+            return value.split(regex);
+        }
+        Matcher matcher = compiled.new Matcher(value);
+        List<String> parts = new ArrayList<>();
+        int index = 0;
+        while (matcher.find()) {
+            int start = matcher.captures[0];
+            int end = matcher.captures[1];
+            // a zero-width match at the beginning never produces an empty leading substring
+            if (index == 0 && start == 0 && end == 0) {
+                continue;
+            }
+            parts.add(value.substring(index, start));
+            index = end;
+        }
+        if (index == 0) {
+            return new String[]{value};
+        }
+        parts.add(value.substring(index));
+        int size = parts.size();
+        while (size > 0 && parts.get(size - 1).isEmpty()) {
+            size--;
+        }
+        return parts.subList(0, size).toArray(new String[0]);
+    }
+
+    private static LinearRegex cached(final String regex) {
+        Optional<LinearRegex> compiled = CACHE.get(regex);
+        if (compiled == null) {
+            if (CACHE.size() >= CACHE_SIZE) {
+                CACHE.clear();
+            }
+            compiled = Optional.ofNullable(compile(regex));
+            CACHE.put(regex, compiled);
+        }
+        return compiled.orElse(null);
+    }
+
+    // String.split doesn't use a regex for a single char that is not a metachar
+    private static boolean isSplitFastPath(final String regex) {
+        return regex.length() == 1 && ".$|()[{^?*+\\".indexOf(regex.charAt(0)) == -1;
+    }
+
+    private static boolean hasSurrogates(final String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (Character.isSurrogate(value.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Parses a replacement like {@link java.util.regex.Matcher#appendReplacement(StringBuffer, String)} into literal
+     * Strings and group numbers, or returns null if java.util.regex would reject it
+     */
+    private Object[] parseReplacement(final String replacement) {
+        List<Object> pieces = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int i = 0;
+        while (i < replacement.length()) {
+            char ch = replacement.charAt(i++);
+            if (ch == '\\') {
+                if (i == replacement.length()) {
+                    return null;
+                }
+                literal.append(replacement.charAt(i++));
+            } else if (ch == '$') {
+                if (i == replacement.length() || !isDigit(replacement.charAt(i))) {
+                    return null;
+                }
+                int group = replacement.charAt(i++) - '0';
+                if (group > this.groupCount) {
+                    return null;
+                }
+                while (i < replacement.length() && isDigit(replacement.charAt(i))) {
+                    int next = group * 10 + replacement.charAt(i) - '0';
+                    if (next > this.groupCount) {
+                        break;
+                    }
+                    group = next;
+                    i++;
+                }
+                if (literal.length() > 0) {
+                    pieces.add(literal.toString());
+                    literal.setLength(0);
+                }
+                pieces.add(group);
+            } else {
+                literal.append(ch);
+            }
+        }
+        if (literal.length() > 0) {
+            pieces.add(literal.toString());
+        }
+        return pieces.toArray();
+    }
+
+    private static boolean isDigit(final char ch) {
+        return ch >= '0' && ch <= '9';
+    }
+
+    // $ without MULTILINE: at the end, or before a line terminator at the end
+    private static boolean atEnd(final CharSequence text, final int position) {
+        int length = text.length();
+        if (position == length) {
+            return true;
+        }
+        if (position == length - 2) {
+            return text.charAt(position) == '\r' && text.charAt(position + 1) == '\n';
+        }
+        if (position == length - 1) {
+            char ch = text.charAt(position);
+            if (ch == '\n') {
+                return position == 0 || text.charAt(position - 1) != '\r';
+            }
+            return ch == '\r' || ch == '\u0085' || ch == '\u2028' || ch == '\u2029';
+        }
+        return false;
+    }
+
+    /**
+     * Finds successive matches in a text with the semantics of {@link java.util.regex.Matcher#find()}. Captures are
+     * set and restored on one working array while threads are added, and only copied into rows preallocated per
+     * program counter, so matching allocates nothing per position.
+     */
+    private final class Matcher {
+
+        private final String text;
+        private Threads current = new Threads(LinearRegex.this.ops.length, LinearRegex.this.noCaptures.length);
+        private Threads next = new Threads(LinearRegex.this.ops.length, LinearRegex.this.noCaptures.length);
+        private final int[] working = new int[LinearRegex.this.noCaptures.length];
+        private final int[] captures = new int[LinearRegex.this.noCaptures.length];
+        private boolean started;
+        private int from;
+
+        Matcher(final String text) {
+            this.text = text;
+        }
+
+        boolean find() {
+            if (this.started) {
+                // after an empty match the next search starts one char further
+                this.from = this.captures[1] == this.captures[0] ? this.captures[1] + 1 : this.captures[1];
+            }
+            this.started = true;
+            return this.from <= this.text.length() && search(this.from);
+        }
+
+        private boolean search(final int start) {
+            int length = this.text.length();
+            boolean found = false;
+            this.current.clear();
+            for (int position = start; position <= length; position++) {
+                if (!found) {
+                    System.arraycopy(LinearRegex.this.noCaptures, 0, this.working, 0, this.working.length);
+                    add(this.current, 0, position, this.working);
+                }
+                if (found && this.current.size == 0) {
+                    return true;
+                }
+                this.next.clear();
+                char ch = position < length ? this.text.charAt(position) : 0;
+                for (int i = 0; i < this.current.size; i++) {
+                    int pc = this.current.pcs[i];
+                    if (LinearRegex.this.ops[pc] == MATCH) {
+                        // threads after this one have lower priority
+                        System.arraycopy(this.current.captures[i], 0, this.captures, 0, this.captures.length);
+                        found = true;
+                        break;
+                    }
+                    if (position < length && LinearRegex.this.sets[pc].matches(ch)) {
+                        add(this.next, pc + 1, position + 1, this.current.captures[i]);
+                    }
+                }
+                Threads swap = this.current;
+                this.current = this.next;
+                this.next = swap;
+            }
+            return found;
+        }
+
+        // captures is changed while following SAVEs but restored before returning
+        private void add(final Threads threads, final int pc, final int position, final int[] captures) {
+            if (threads.marks[pc] == threads.stamp) {
+                return;
+            }
+            threads.marks[pc] = threads.stamp;
+            switch (LinearRegex.this.ops[pc]) {
+                case JMP:
+                    add(threads, LinearRegex.this.x[pc], position, captures);
+                    break;
+                case SPLIT:
+                    add(threads, LinearRegex.this.x[pc], position, captures);
+                    add(threads, LinearRegex.this.y[pc], position, captures);
+                    break;
+                case SAVE:
+                    int slot = LinearRegex.this.x[pc];
+                    int saved = captures[slot];
+                    captures[slot] = position;
+                    add(threads, pc + 1, position, captures);
+                    captures[slot] = saved;
+                    break;
+                case BOL:
+                    if (position == 0) {
+                        add(threads, pc + 1, position, captures);
+                    }
+                    break;
+                case EOL:
+                    if (atEnd(this.text, position)) {
+                        add(threads, pc + 1, position, captures);
+                    }
+                    break;
+                case LOOK:
+                    if (LinearRegex.this.looks[pc].test(this.text, position)) {
+                        add(threads, pc + 1, position, captures);
+                    }
+                    break;
+                default:
+                    System.arraycopy(captures, 0, threads.captures[threads.size], 0, captures.length);
+                    threads.pcs[threads.size++] = pc;
+            }
+        }
+    }
+
+    private static final class Threads {
+
+        private final int[] pcs;
+        private final int[][] captures;
+        private final int[] marks;
+        private int size;
+        private int stamp;
+
+        Threads(final int programSize, final int slots) {
+            this.pcs = new int[programSize];
+            this.captures = new int[programSize][slots];
+            this.marks = new int[programSize];
+        }
+
+        void clear() {
+            this.size = 0;
+            this.stamp++;
+        }
+    }
+
+    private static final class Program {
+
+        private int[] ops = new int[16];
+        private int[] x = new int[16];
+        private int[] y = new int[16];
+        private CharSet[] sets = new CharSet[16];
+        private Look[] looks = new Look[16];
+        private int size;
+
+        int emit(final int op, final int first, final int second) {
+            if (this.size == MAX_PROGRAM_SIZE) {
+                throw new UnsupportedPatternException();
+            }
+            if (this.size == this.ops.length) {
+                int capacity = this.size * 2;
+                this.ops = Arrays.copyOf(this.ops, capacity);
+                this.x = Arrays.copyOf(this.x, capacity);
+                this.y = Arrays.copyOf(this.y, capacity);
+                this.sets = Arrays.copyOf(this.sets, capacity);
+                this.looks = Arrays.copyOf(this.looks, capacity);
+            }
+            this.ops[this.size] = op;
+            this.x[this.size] = first;
+            this.y[this.size] = second;
+            return this.size++;
+        }
+
+        void branch(final int split, final int preferred, final int other) {
+            this.x[split] = preferred;
+            this.y[split] = other;
+        }
+    }
+
+    private abstract static class Node {
+
+        abstract void emit(Program program);
+
+        abstract boolean nullable();
+    }
+
+    private static final class SetNode extends Node {
+
+        private final CharSet set;
+
+        SetNode(final CharSet set) {
+            this.set = set;
+        }
+
+        @Override
+        void emit(final Program program) {
+            int pc = program.emit(CHAR, 0, 0);
+            program.sets[pc] = this.set;
+        }
+
+        @Override
+        boolean nullable() {
+            return false;
+        }
+    }
+
+    private static final class AssertionNode extends Node {
+
+        private final int op;
+        private final Look look;
+
+        AssertionNode(final int op, final Look look) {
+            this.op = op;
+            this.look = look;
+        }
+
+        @Override
+        void emit(final Program program) {
+            int pc = program.emit(this.op, 0, 0);
+            program.looks[pc] = this.look;
+        }
+
+        @Override
+        boolean nullable() {
+            return true;
+        }
+    }
+
+    private static final class GroupNode extends Node {
+
+        private final int group;
+        private final Node node;
+
+        GroupNode(final int group, final Node node) {
+            this.group = group;
+            this.node = node;
+        }
+
+        @Override
+        void emit(final Program program) {
+            program.emit(SAVE, this.group * 2, 0);
+            this.node.emit(program);
+            program.emit(SAVE, this.group * 2 + 1, 0);
+        }
+
+        @Override
+        boolean nullable() {
+            return this.node.nullable();
+        }
+    }
+
+    private static final class SequenceNode extends Node {
+
+        private final List<Node> nodes;
+
+        SequenceNode(final List<Node> nodes) {
+            this.nodes = nodes;
+        }
+
+        @Override
+        void emit(final Program program) {
+            for (Node node : this.nodes) {
+                node.emit(program);
+            }
+        }
+
+        @Override
+        boolean nullable() {
+            return this.nodes.stream().allMatch(Node::nullable);
+        }
+    }
+
+    private static final class AlternationNode extends Node {
+
+        private final List<Node> alternatives;
+
+        AlternationNode(final List<Node> alternatives) {
+            this.alternatives = alternatives;
+        }
+
+        @Override
+        void emit(final Program program) {
+            int[] jumps = new int[this.alternatives.size() - 1];
+            for (int i = 0; i < jumps.length; i++) {
+                int split = program.emit(SPLIT, 0, 0);
+                this.alternatives.get(i).emit(program);
+                jumps[i] = program.emit(JMP, 0, 0);
+                program.branch(split, split + 1, program.size);
+            }
+            this.alternatives.get(jumps.length).emit(program);
+            for (int jump : jumps) {
+                program.x[jump] = program.size;
+            }
+        }
+
+        @Override
+        boolean nullable() {
+            return this.alternatives.stream().anyMatch(Node::nullable);
+        }
+    }
+
+    private static final class RepetitionNode extends Node {
+
+        private final Node node;
+        private final int min;
+        // -1 when unbounded
+        private final int max;
+        private final boolean greedy;
+
+        RepetitionNode(final Node node, final int min, final int max, final boolean greedy) {
+            this.node = node;
+            this.min = min;
+            this.max = max;
+            this.greedy = greedy;
+        }
+
+        @Override
+        void emit(final Program program) {
+            for (int i = 0; i < this.min; i++) {
+                this.node.emit(program);
+            }
+            if (this.max == -1) {
+                int split = program.emit(SPLIT, 0, 0);
+                this.node.emit(program);
+                program.emit(JMP, split, 0);
+                branch(program, split);
+                return;
+            }
+            int[] splits = new int[this.max - this.min];
+            for (int i = 0; i < splits.length; i++) {
+                splits[i] = program.emit(SPLIT, 0, 0);
+                this.node.emit(program);
+            }
+            for (int split : splits) {
+                branch(program, split);
+            }
+        }
+
+        private void branch(final Program program, final int split) {
+            if (this.greedy) {
+                program.branch(split, split + 1, program.size);
+            } else {
+                program.branch(split, program.size, split + 1);
+            }
+        }
+
+        @Override
+        boolean nullable() {
+            return this.min == 0 || this.node.nullable();
+        }
+    }
+
+    /**
+     * A lookahead or lookbehind over a fixed sequence of chars
+     */
+    private static final class Look {
+
+        private final CharSet[] sets;
+        private final boolean behind;
+        private final boolean negated;
+
+        Look(final CharSet[] sets, final boolean behind, final boolean negated) {
+            this.sets = sets;
+            this.behind = behind;
+            this.negated = negated;
+        }
+
+        boolean test(final CharSequence text, final int position) {
+            int start = this.behind ? position - this.sets.length : position;
+            boolean matches = start >= 0 && start + this.sets.length <= text.length();
+            for (int i = 0; matches && i < this.sets.length; i++) {
+                matches = this.sets[i].matches(text.charAt(start + i));
+            }
+            return matches != this.negated;
+        }
+    }
+
+    /**
+     * A set of chars as sorted, disjoint, inclusive ranges with a bitmap for ASCII
+     */
+    static final class CharSet {
+
+        static final CharSet DIGIT = of('0', '9');
+        static final CharSet SPACE = of('\t', '\r', ' ', ' ');
+        static final CharSet WORD = of('0', '9', 'A', 'Z', '_', '_', 'a', 'z');
+        static final CharSet UPPER = of('A', 'Z');
+        static final CharSet LOWER = of('a', 'z');
+        static final CharSet ALPHA = of('A', 'Z', 'a', 'z');
+        static final CharSet ALNUM = of('0', '9', 'A', 'Z', 'a', 'z');
+        static final CharSet PUNCT = of('!', '/', ':', '@', '[', '`', '{', '~');
+        static final CharSet BLANK = of('\t', '\t', ' ', ' ');
+        static final CharSet XDIGIT = of('0', '9', 'A', 'F', 'a', 'f');
+        static final CharSet DOT = of('\n', '\n', '\r', '\r', '\u0085', '\u0085', '\u2028', '\u2029').complement();
+
+        private final char[] ranges;
+        private final long low;
+        private final long high;
+
+        private CharSet(final char[] ranges) {
+            this.ranges = ranges;
+            long lowBits = 0;
+            long highBits = 0;
+            for (int ch = 0; ch < 128; ch++) {
+                if (contains(ranges, (char) ch)) {
+                    if (ch < 64) {
+                        lowBits |= 1L << ch;
+                    } else {
+                        highBits |= 1L << ch - 64;
+                    }
+                }
+            }
+            this.low = lowBits;
+            this.high = highBits;
+        }
+
+        /**
+         * Creates a set from pairs of inclusive from and to chars in any order
+         */
+        static CharSet of(final char... pairs) {
+            long[] sorted = new long[pairs.length / 2];
+            for (int i = 0; i < sorted.length; i++) {
+                sorted[i] = (long) pairs[i * 2] << 16 | pairs[i * 2 + 1];
+            }
+            Arrays.sort(sorted);
+            char[] ranges = new char[pairs.length];
+            int size = 0;
+            for (long range : sorted) {
+                char from = (char) (range >>> 16);
+                char to = (char) range;
+                if (size > 0 && from <= ranges[size - 1] + 1) {
+                    ranges[size - 1] = (char) Math.max(ranges[size - 1], to);
+                } else {
+                    ranges[size++] = from;
+                    ranges[size++] = to;
+                }
+            }
+            return new CharSet(Arrays.copyOf(ranges, size));
+        }
+
+        CharSet complement() {
+            char[] complement = new char[this.ranges.length + 2];
+            int size = 0;
+            int next = 0;
+            for (int i = 0; i < this.ranges.length; i += 2) {
+                if (this.ranges[i] > next) {
+                    complement[size++] = (char) next;
+                    complement[size++] = (char) (this.ranges[i] - 1);
+                }
+                next = this.ranges[i + 1] + 1;
+            }
+            if (next <= Character.MAX_VALUE) {
+                complement[size++] = (char) next;
+                complement[size++] = Character.MAX_VALUE;
+            }
+            return new CharSet(Arrays.copyOf(complement, size));
+        }
+
+        CharSet union(final CharSet other) {
+            char[] pairs = Arrays.copyOf(this.ranges, this.ranges.length + other.ranges.length);
+            System.arraycopy(other.ranges, 0, pairs, this.ranges.length, other.ranges.length);
+            return of(pairs);
+        }
+
+        boolean matches(final char ch) {
+            if (ch < 64) {
+                return (this.low >>> ch & 1) != 0;
+            }
+            if (ch < 128) {
+                return (this.high >>> ch - 64 & 1) != 0;
+            }
+            return contains(this.ranges, ch);
+        }
+
+        private static boolean contains(final char[] ranges, final char ch) {
+            int low = 0;
+            int high = ranges.length / 2 - 1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                if (ch < ranges[middle * 2]) {
+                    high = middle - 1;
+                } else if (ch > ranges[middle * 2 + 1]) {
+                    low = middle + 1;
+                } else {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Recursive descent parser for the supported subset. Anything else throws UnsupportedPatternException, including
+     * the patterns java.util.regex rejects, so they fail there with the usual exception.
+     */
+    private static final class Parser {
+
+        private final String regex;
+        private int index;
+        private int groupCount;
+
+        Parser(final String regex) {
+            this.regex = regex;
+        }
+
+        Node parse() {
+            Node node = parseAlternation();
+            if (this.index < this.regex.length()) {
+                throw new UnsupportedPatternException();
+            }
+            return node;
+        }
+
+        private Node parseAlternation() {
+            List<Node> alternatives = new ArrayList<>();
+            alternatives.add(parseSequence());
+            while (this.index < this.regex.length() && this.regex.charAt(this.index) == '|') {
+                this.index++;
+                alternatives.add(parseSequence());
+            }
+            return alternatives.size() == 1 ? alternatives.get(0) : new AlternationNode(alternatives);
+        }
+
+        private Node parseSequence() {
+            List<Node> nodes = new ArrayList<>();
+            while (this.index < this.regex.length() && this.regex.charAt(this.index) != '|'
+                    && this.regex.charAt(this.index) != ')') {
+                nodes.add(parseRepetition());
+            }
+            return nodes.size() == 1 ? nodes.get(0) : new SequenceNode(nodes);
+        }
+
+        private Node parseRepetition() {
+            int groupsBefore = this.groupCount;
+            Node node = parseAtom();
+            if (this.index == this.regex.length()) {
+                return node;
+            }
+            int min;
+            int max;
+            switch (this.regex.charAt(this.index)) {
+                case '*':
+                    min = 0;
+                    max = -1;
+                    break;
+                case '+':
+                    min = 1;
+                    max = -1;
+                    break;
+                case '?':
+                    min = 0;
+                    max = 1;
+                    break;
+                case '{':
+                    int close = this.regex.indexOf('}', this.index);
+                    if (close == -1) {
+                        throw new UnsupportedPatternException();
+                    }
+                    String bounds = this.regex.substring(this.index + 1, close);
+                    int comma = bounds.indexOf(',');
+                    min = parseBound(comma == -1 ? bounds : bounds.substring(0, comma));
+                    max = comma == -1 ? min
+                            : comma == bounds.length() - 1 ? -1 : parseBound(bounds.substring(comma + 1));
+                    if (max != -1 && max < min) {
+                        throw new UnsupportedPatternException();
+                    }
+                    this.index = close;
+                    break;
+                default:
+                    return node;
+            }
+            this.index++;
+            boolean greedy = true;
+            if (this.index < this.regex.length() && this.regex.charAt(this.index) == '?') {
+                greedy = false;
+                this.index++;
+            }
+            if (this.index < this.regex.length() && "*+?{".indexOf(this.regex.charAt(this.index)) != -1) {
+                throw new UnsupportedPatternException();
+            }
+            // assertions can't be repeated, empty iterations would need java.util.regex's special loop handling and
+            // java.util.regex doesn't always restore the captures of backtracked iterations
+            if (node instanceof AssertionNode || (max == -1 || max > 1) && node.nullable()
+                    || this.groupCount > groupsBefore) {
+                throw new UnsupportedPatternException();
+            }
+            return new RepetitionNode(node, min, max, greedy);
+        }
+
+        private static int parseBound(final String bound) {
+            if (bound.isEmpty() || bound.length() > 4) {
+                throw new UnsupportedPatternException();
+            }
+            for (int i = 0; i < bound.length(); i++) {
+                if (!isDigit(bound.charAt(i))) {
+                    throw new UnsupportedPatternException();
+                }
+            }
+            int value = Integer.parseInt(bound);
+            if (value > MAX_REPETITION) {
+                throw new UnsupportedPatternException();
+            }
+            return value;
+        }
+
+        private Node parseAtom() {
+            char ch = this.regex.charAt(this.index++);
+            switch (ch) {
+                case '(':
+                    return parseGroup();
+                case '^':
+                    return new AssertionNode(BOL, null);
+                case '$':
+                    return new AssertionNode(EOL, null);
+                case '*':
+                case '+':
+                case '?':
+                case '{':
+                    throw new UnsupportedPatternException();
+                default:
+                    this.index--;
+                    return new SetNode(parseSet());
+            }
+        }
+
+        private Node parseGroup() {
+            if (this.regex.startsWith("?", this.index)) {
+                if (this.regex.startsWith("?:", this.index)) {
+                    this.index += 2;
+                    return expectClose(parseAlternation());
+                }
+                boolean behind = this.regex.startsWith("?<", this.index);
+                int prefix = behind ? 3 : 2;
+                if (this.index + prefix > this.regex.length()) {
+                    throw new UnsupportedPatternException();
+                }
+                char kind = this.regex.charAt(this.index + prefix - 1);
+                if (kind != '=' && kind != '!') {
+                    throw new UnsupportedPatternException();
+                }
+                this.index += prefix;
+                List<CharSet> sets = new ArrayList<>();
+                while (this.index < this.regex.length() && this.regex.charAt(this.index) != ')') {
+                    if ("(|^$*+?{".indexOf(this.regex.charAt(this.index)) != -1) {
+                        throw new UnsupportedPatternException();
+                    }
+                    sets.add(parseSet());
+                }
+                Look look = new Look(sets.toArray(new CharSet[0]), behind, kind == '!');
+                return expectClose(new AssertionNode(LOOK, look));
+            }
+            int group = ++this.groupCount;
+            return expectClose(new GroupNode(group, parseAlternation()));
+        }
+
+        private Node expectClose(final Node node) {
+            if (this.index == this.regex.length() || this.regex.charAt(this.index) != ')') {
+                throw new UnsupportedPatternException();
+            }
+            this.index++;
+            return node;
+        }
+
+        // a single char: a literal, '.', an escape or a class
+        private CharSet parseSet() {
+            char ch = this.regex.charAt(this.index++);
+            switch (ch) {
+                case '.':
+                    return CharSet.DOT;
+                case '[':
+                    return parseClass();
+                case '\\':
+                    return parseEscape();
+                default:
+                    return CharSet.of(ch, ch);
+            }
+        }
+
+        private CharSet parseClass() {
+            boolean negated = this.index < this.regex.length() && this.regex.charAt(this.index) == '^';
+            if (negated) {
+                this.index++;
+            }
+            if (this.index < this.regex.length() && this.regex.charAt(this.index) == ']') {
+                throw new UnsupportedPatternException();
+            }
+            CharSet set = CharSet.of();
+            while (true) {
+                if (this.index == this.regex.length()) {
+                    throw new UnsupportedPatternException();
+                }
+                char ch = this.regex.charAt(this.index++);
+                if (ch == ']') {
+                    return negated ? set.complement() : set;
+                }
+                if (ch == '[' || ch == '&' && this.regex.startsWith("&", this.index)) {
+                    throw new UnsupportedPatternException();
+                }
+                CharSet member = ch == '\\' ? parseEscape() : CharSet.of(ch, ch);
+                if (this.regex.startsWith("-", this.index) && this.index + 1 < this.regex.length()
+                        && this.regex.charAt(this.index + 1) != ']') {
+                    this.index++;
+                    char from = single(member);
+                    char next = this.regex.charAt(this.index++);
+                    if (next == '[') {
+                        throw new UnsupportedPatternException();
+                    }
+                    char to = single(next == '\\' ? parseEscape() : CharSet.of(next, next));
+                    if (to < from) {
+                        throw new UnsupportedPatternException();
+                    }
+                    member = CharSet.of(from, to);
+                }
+                set = set.union(member);
+            }
+        }
+
+        private static char single(final CharSet set) {
+            if (set.ranges.length != 2 || set.ranges[0] != set.ranges[1]) {
+                throw new UnsupportedPatternException();
+            }
+            return set.ranges[0];
+        }
+
+        private CharSet parseEscape() {
+            if (this.index == this.regex.length()) {
+                throw new UnsupportedPatternException();
+            }
+            char ch = this.regex.charAt(this.index++);
+            switch (ch) {
+                case 'd':
+                    return CharSet.DIGIT;
+                case 'D':
+                    return CharSet.DIGIT.complement();
+                case 's':
+                    return CharSet.SPACE;
+                case 'S':
+                    return CharSet.SPACE.complement();
+                case 'w':
+                    return CharSet.WORD;
+                case 'W':
+                    return CharSet.WORD.complement();
+                case 'p':
+                    return parseProperty();
+                case 'P':
+                    return parseProperty().complement();
+                case 't':
+                    return CharSet.of('\t', '\t');
+                case 'n':
+                    return CharSet.of('\n', '\n');
+                case 'r':
+                    return CharSet.of('\r', '\r');
+                case 'f':
+                    return CharSet.of('\f', '\f');
+                case 'a':
+                    return CharSet.of('\u0007', '\u0007');
+                case 'e':
+                    return CharSet.of('\u001B', '\u001B');
+                case 'x':
+                    return parseHex(2);
+                case 'u':
+                    return parseHex(4);
+                default:
+                    if (Character.isLetterOrDigit(ch)) {
+                        throw new UnsupportedPatternException();
+                    }
+                    return CharSet.of(ch, ch);
+            }
+        }
+
+        private CharSet parseHex(final int digits) {
+            if (this.index + digits > this.regex.length()) {
+                throw new UnsupportedPatternException();
+            }
+            int value = 0;
+            for (int i = 0; i < digits; i++) {
+                int digit = Character.digit(this.regex.charAt(this.index++), 16);
+                if (digit < 0) {
+                    throw new UnsupportedPatternException();
+                }
+                value = value * 16 + digit;
+            }
+            if (Character.isSurrogate((char) value)) {
+                throw new UnsupportedPatternException();
+            }
+            return CharSet.of((char) value, (char) value);
+        }
+
+        private CharSet parseProperty() {
+            int close = this.regex.indexOf('}', this.index);
+            if (!this.regex.startsWith("{", this.index) || close == -1) {
+                throw new UnsupportedPatternException();
+            }
+            String name = this.regex.substring(this.index + 1, close);
+            this.index = close + 1;
+            switch (name) {
+                case "Upper":
+                    return CharSet.UPPER;
+                case "Lower":
+                    return CharSet.LOWER;
+                case "Alpha":
+                    return CharSet.ALPHA;
+                case "Digit":
+                    return CharSet.DIGIT;
+                case "Alnum":
+                    return CharSet.ALNUM;
+                case "Punct":
+                    return CharSet.PUNCT;
+                case "Space":
+                    return CharSet.SPACE;
+                case "Blank":
+                    return CharSet.BLANK;
+                case "XDigit":
+                    return CharSet.XDIGIT;
+                default:
+                    throw new UnsupportedPatternException();
+            }
+        }
+    }
+
+    private static final class UnsupportedPatternException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        UnsupportedPatternException() {
+            super(null, null, false, false);
+        }
+    }
+}
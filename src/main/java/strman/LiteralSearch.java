@@ -0,0 +1,108 @@
+/*
+ *
+ *  * The MIT License
+ *  *
+ *  * Copyright 2016 Shekhar Gulati <shekhargulati84@gmail.com>.
+ *  *
+ *  * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  * of this software and associated documentation files (the "Software"), to deal
+ *  * in the Software without restriction, including without limitation the rights
+ *  * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  * copies of the Software, and to permit persons to whom the Software is
+ *  * furnished to do so, subject to the following conditions:
+ *  *
+ *  * The above copyright notice and this permission notice shall be included in
+ *  * all copies or substantial portions of the Software.
+ *  *
+ *  * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  * THE SOFTWARE.
+ *
+ */
+
+
+package strman;
+
+import java.util.Arrays;
+
+/**
+ * Horspool search for a literal needle, optionally comparing folded chars. The shift table is indexed by the low
+ * byte of the (folded) char; chars sharing a low byte share the smallest shift, which keeps the skips safe.
+ */
+final class LiteralSearch {
+
+    private final char[] needle;
+    private final boolean ignoreCase;
+    private final int[] shifts = new int[256];
+
+    LiteralSearch(final String needle, final boolean ignoreCase) {
+        this.ignoreCase = ignoreCase;
+        this.needle = needle.toCharArray();
+        int last = this.needle.length - 1;
+        for (int i = 0; i < this.needle.length; i++) {
+            this.needle[i] = fold(this.needle[i]);
+        }
+        Arrays.fill(this.shifts, this.needle.length);
+        for (int i = 0; i < last; i++) {
+            this.shifts[this.needle[i] & 0xFF] = last - i;
+        }
+    }
+
+    /**
+     * Returns the index of the first occurrence of the needle at or after from, or -1
+     */
+    int indexOf(final CharSequence text, final int from) {
+        int length = this.needle.length;
+        if (length == 0) {
+            return from <= text.length() ? Math.max(from, 0) : -1;
+        }
+        int last = length - 1;
+        int end = text.length() - length;
+        int position = Math.max(from, 0);
+        while (position <= end) {
+            char tail = fold(text.charAt(position + last));
+            if (tail == this.needle[last]) {
+                int i = last - 1;
+                while (i >= 0 && fold(text.charAt(position + i)) == this.needle[i]) {
+                    i--;
+                }
+                if (i < 0) {
+                    return position;
+                }
+            }
+            position += this.shifts[tail & 0xFF];
+        }
+        return -1;
+    }
+
+    /**
+     * Replaces every occurrence of the needle, left to right without overlaps
+     *
+     * @return the replaced String, or value itself when the needle does not occur
+     */
+    String replace(final String value, final String newValue) {
+        if (this.needle.length == 0) {
+            return value.replace("", newValue);
+        }
+        int found = indexOf(value, 0);
+        if (found < 0) {
+            return value;
+        }
+        StringBuilder builder = new StringBuilder(value.length() + Math.max(newValue.length() - this.needle.length, 0));
+        int position = 0;
+        do {
+            builder.append(value, position, found).append(newValue);
+            position = found + this.needle.length;
+            found = indexOf(value, position);
+        } while (found >= 0);
+        return builder.append(value, position, value.length()).toString();
+    }
+
+    private char fold(final char ch) {
+        return this.ignoreCase ? CharTrie.fold(ch) : ch;
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ *
+ *  * The MIT License
+ *  *
+ *  * Copyright 2016 Shekhar Gulati <shekhargulati84@gmail.com>.
+ *  *
+ *  * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  * of this software and associated documentation files (the "Software"), to deal
+ *  * in the Software without restriction, including without limitation the rights
+ *  * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  * copies of the Software, and to permit persons to whom the Software is
+ *  * furnished to do so, subject to the following conditions:
+ *  *
+ *  * The above copyright notice and this permission notice shall be included in
+ *  * all copies or substantial portions of the Software.
+ *  *
+ *  * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  * THE SOFTWARE.
+ *
+ */
+
+
+package strman;
+
+/**
+ * How lengths are counted by the measure aware methods of {@link Strman}, such as
+ * {@link Strman#truncate(String, int, String, Measure)}. Whatever the measure, values are never cut inside a
+ * surrogate pair.
+ */
+public enum Measure {
+
+    /**
+     * UTF-16 chars, like {@link String#length()}
+     */
+    CHARS {
+        @Override
+        int next(final String value, final int index) {
+            return index + 1;
+        }
+
+        @Override
+        int size(final String value, final int limit) {
+            return value.length();
+        }
+    },
+
+    /**
+     * Unicode code points, so a supplementary character such as an emoji counts once
+     */
+    CODE_POINTS {
+        @Override
+        int next(final String value, final int index) {
+            return index + Character.charCount(value.codePointAt(index));
+        }
+    },
+
+    /**
+     * Grapheme clusters, i.e. user perceived characters such as a letter with its combining accents
+     */
+    GRAPHEMES {
+        @Override
+        int next(final String value, final int index) {
+            return Graphemes.next(value, index);
+        }
+    },
+
+    /**
+     * Terminal columns, see {@link Strman#displayWidth(CharSequence)}. East Asian wide characters and most emoji
+     * count twice, combining marks and other zero width characters not at all.
+     */
+    DISPLAY_WIDTH {
+        @Override
+        int next(final String value, final int index) {
+            return CODE_POINTS.next(value, index);
+        }
+
+        @Override
+        int weight(final String value, final int start, final int end) {
+            return DisplayWidth.of(value.codePointAt(start));
+        }
+    };
+
+    /**
+     * Returns the end of the unit that starts at index
+     */
+    abstract int next(String value, int index);
+
+    /**
+     * Returns the size of the unit value[start, end)
+     */
+    int weight(final String value, final int start, final int end) {
+        return 1;
+    }
+
+    /**
+     * Returns the size of value, or some size above limit as soon as it is known to exceed it
+     */
+    int size(final String value, final int limit) {
+        int size = 0;
+        for (int i = 0; i < value.length() && size <= limit; ) {
+            int next = next(value, i);
+            size += weight(value, i, next);
+            i = next;
+        }
+        return size;
+    }
+}
@@ -0,0 +1,405 @@
+/*
+ *
+ *  * The MIT License
+ *  *
+ *  * Copyright 2016 Shekhar Gulati <shekhargulati84@gmail.com>.
+ *  *
+ *  * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  * of this software and associated documentation files (the "Software"), to deal
+ *  * in the Software without restriction, including without limitation the rights
+ *  * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  * copies of the Software, and to permit persons to whom the Software is
+ *  * furnished to do so, subject to the following conditions:
+ *  *
+ *  * The above copyright notice and this permission notice shall be included in
+ *  * all copies or substantial portions of the Software.
+ *  *
+ *  * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  * THE SOFTWARE.
+ *
+ */
+
+
+package strman;
+
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Fork/join variants of the Strman methods that scan the whole input. The input is split into chunks which are
+ * scanned on the common {@link ForkJoinPool} and the partial results are merged. Inputs shorter than the threshold
+ * are handed to the sequential implementation in {@link Strman}.
+ */
+public abstract class ParallelStrman {
+
+    /**
+     * Default number of chars below which the sequential implementation is used
+     */
+    public static final int DEFAULT_THRESHOLD = 1 << 20;
+
+    private static volatile int threshold = DEFAULT_THRESHOLD;
+
+    private ParallelStrman() {
+    }
+
+    /**
+     * Returns the number of chars below which the sequential implementation is used. It is also the size of the
+     * chunks scanned by a single task.
+     *
+     * @return current threshold
+     */
+    public static int getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * Sets the number of chars below which the sequential implementation is used.
+     *
+     * @param threshold new threshold, should be greater than zero
+     */
+    public static void setThreshold(final int threshold) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("threshold should be greater than zero");
+        }
+        ParallelStrman.threshold = threshold;
+    }
+
+    /**
+     * Count the number of times substr appears in value
+     *
+     * @param value  input
+     * @param subStr to search
+     * @return count of times substring exists
+     * @see Strman#countSubstr(String, String)
+     */
+    public static long countSubstr(final String value, final String subStr) {
+        return countSubstr(value, subStr, true, false);
+    }
+
+    /**
+     * Count the number of times substr appears in value
+     *
+     * @param value            input
+     * @param subStr           search string
+     * @param caseSensitive    whether search should be case sensitive
+     * @param allowOverlapping boolean to take into account overlapping
+     * @return count of times substring exists
+     * @see Strman#countSubstr(String, String, boolean, boolean)
+     */
+    public static long countSubstr(final String value, final String subStr, final boolean caseSensitive,
+                                   final boolean allowOverlapping) {
+        validate(value);
+        int chunk = threshold;
+        // Occurrences of a needle without a border can never overlap, so counting them chunk by chunk gives the
+        // same answer with or without overlapping. Greedy non-overlapping counting of other needles is sequential.
+        if (value.length() < chunk || subStr.isEmpty() || (!allowOverlapping && hasBorder(subStr, caseSensitive))) {
+            return Strman.countSubstr(value, subStr, caseSensitive, allowOverlapping);
+        }
+        return ForkJoinPool.commonPool().invoke(new CountTask(value, subStr, caseSensitive, 0, value.length(), chunk));
+    }
+
+    /**
+     * Counts the number of occurrences of each character in the string
+     *
+     * @param input The input string
+     * @return A map containing the number of occurrences of each character in the string
+     * @see Strman#charsCount(String)
+     */
+    public static Map<Character, Long> charsCount(final String input) {
+        int chunk = threshold;
+        if (input == null || input.length() < chunk) {
+            return Strman.charsCount(input);
+        }
+        return ForkJoinPool.commonPool().invoke(new CharsCountTask(input, 0, input.length(), chunk)).toMap();
+    }
+
+    /**
+     * Verifies if String is uppercase
+     *
+     * @param value The input String
+     * @return true if String is uppercase false otherwise
+     * @see Strman#isUpperCase(String)
+     */
+    public static boolean isUpperCase(final String value) {
+        validate(value);
+        if (value.length() < threshold) {
+            return Strman.isUpperCase(value);
+        }
+        return allMatch(value, CaseMapper::isUpperCase);
+    }
+
+    /**
+     * Verifies if String is lower case
+     *
+     * @param value The input String
+     * @return true if String is lowercase false otherwise
+     * @see Strman#isLowerCase(String)
+     */
+    public static boolean isLowerCase(final String value) {
+        validate(value);
+        if (value.length() < threshold) {
+            return Strman.isLowerCase(value);
+        }
+        return allMatch(value, CaseMapper::isLowerCase);
+    }
+
+    /**
+     * Verifies that all needles are contained in value. The search is case insensitive
+     *
+     * @param value   input String to search
+     * @param needles needles to find
+     * @return true if all needles are found else false.
+     * @see Strman#containsAll(String, String[])
+     */
+    public static boolean containsAll(final String value, final String[] needles) {
+        return containsAll(value, needles, false);
+    }
+
+    /**
+     * Verifies that all needles are contained in value
+     *
+     * @param value         input String to search
+     * @param needles       needles to find
+     * @param caseSensitive true or false
+     * @return true if all needles are found else false.
+     * @see Strman#containsAll(String, String[], boolean)
+     */
+    public static boolean containsAll(final String value, final String[] needles, final boolean caseSensitive) {
+        validate(value);
+        int chunk = threshold;
+        if (value.length() < chunk) {
+            return Strman.containsAll(value, needles, caseSensitive);
+        }
+        AtomicIntegerArray found = new AtomicIntegerArray(needles.length);
+        ForkJoinPool.commonPool().invoke(new ContainsAllTask(value, needles, caseSensitive, found, 0, value.length(),
+                chunk));
+        for (int i = 0; i < needles.length; i++) {
+            if (found.get(i) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean allMatch(final String value, final RangePredicate predicate) {
+        AtomicBoolean failed = new AtomicBoolean();
+        ForkJoinPool.commonPool().invoke(new MatchTask(value, predicate, failed, 0, value.length(), threshold));
+        return !failed.get();
+    }
+
+    private static void validate(final String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("'value' should be not null.");
+        }
+    }
+
+    private static boolean hasBorder(final String needle, final boolean caseSensitive) {
+        for (int length = needle.length() - 1; length > 0; length--) {
+            if (needle.regionMatches(!caseSensitive, 0, needle, needle.length() - length, length)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Counts the occurrences of needle starting at an index in [from, to). An occurrence may extend past to, so
+     * the ones spanning two chunks are counted exactly once, by the chunk they start in.
+     */
+    private static int countOccurrences(final String value, final String needle, final boolean caseSensitive,
+                                        final int from, final int to, final boolean stopAtFirst) {
+        int last = Math.min(to, value.length() - needle.length() + 1);
+        char first = needle.charAt(0);
+        char firstUpper = Character.toUpperCase(first);
+        char firstLower = Character.toLowerCase(first);
+        int count = 0;
+        for (int i = from; i < last; i++) {
+            char ch = value.charAt(i);
+            if (ch != first && (caseSensitive || (Character.toUpperCase(ch) != firstUpper
+                    && Character.toLowerCase(ch) != firstLower))) {
+                continue;
+            }
+            if (value.regionMatches(!caseSensitive, i + 1, needle, 1, needle.length() - 1)) {
+                count++;
+                if (stopAtFirst) {
+                    return count;
+                }
+            }
+        }
+        return count;
+    }
+
+    private static final class CountTask extends RecursiveTask<Long> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String value;
+        private final String subStr;
+        private final boolean caseSensitive;
+        private final int from;
+        private final int to;
+        private final int chunk;
+
+        CountTask(String value, String subStr, boolean caseSensitive, int from, int to, int chunk) {
+            this.value = value;
+            this.subStr = subStr;
+            this.caseSensitive = caseSensitive;
+            this.from = from;
+            this.to = to;
+            this.chunk = chunk;
+        }
+
+        @Override
+        protected Long compute() {
+            if (this.to - this.from <= this.chunk) {
+                return (long) countOccurrences(this.value, this.subStr, this.caseSensitive, this.from, this.to, false);
+            }
+            int middle = (this.from + this.to) >>> 1;
+            CountTask left = new CountTask(this.value, this.subStr, this.caseSensitive, this.from, middle, this.chunk);
+            left.fork();
+            long right = new CountTask(this.value, this.subStr, this.caseSensitive, middle, this.to, this.chunk)
+                    .compute();
+            return left.join() + right;
+        }
+    }
+
+    /**
+     * Tests the chars of a String between two code point boundaries
+     */
+    @FunctionalInterface
+    private interface RangePredicate {
+
+        boolean test(String value, int from, int to);
+    }
+
+    private static final class MatchTask extends RecursiveTask<Void> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String value;
+        private final RangePredicate predicate;
+        private final AtomicBoolean failed;
+        private final int from;
+        private final int to;
+        private final int chunk;
+
+        MatchTask(String value, RangePredicate predicate, AtomicBoolean failed, int from, int to, int chunk) {
+            this.value = value;
+            this.predicate = predicate;
+            this.failed = failed;
+            this.from = from;
+            this.to = to;
+            this.chunk = chunk;
+        }
+
+        @Override
+        protected Void compute() {
+            if (this.failed.get()) {
+                return null;
+            }
+            if (this.to - this.from <= this.chunk) {
+                if (!this.predicate.test(this.value, this.from, this.to)) {
+                    this.failed.set(true);
+                }
+                return null;
+            }
+            int middle = (this.from + this.to) >>> 1;
+            // keep surrogate pairs in one subrange so each one is tested as a whole code point
+            if (Character.isLowSurrogate(this.value.charAt(middle))
+                    && Character.isHighSurrogate(this.value.charAt(middle - 1))) {
+                middle++;
+            }
+            MatchTask left = new MatchTask(this.value, this.predicate, this.failed, this.from, middle, this.chunk);
+            left.fork();
+            new MatchTask(this.value, this.predicate, this.failed, middle, this.to, this.chunk).compute();
+            left.join();
+            return null;
+        }
+    }
+
+    private static final class ContainsAllTask extends RecursiveTask<Void> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String value;
+        private final String[] needles;
+        private final boolean caseSensitive;
+        private final AtomicIntegerArray found;
+        private final int from;
+        private final int to;
+        private final int chunk;
+
+        ContainsAllTask(String value, String[] needles, boolean caseSensitive, AtomicIntegerArray found, int from,
+                        int to, int chunk) {
+            this.value = value;
+            this.needles = needles;
+            this.caseSensitive = caseSensitive;
+            this.found = found;
+            this.from = from;
+            this.to = to;
+            this.chunk = chunk;
+        }
+
+        @Override
+        protected Void compute() {
+            if (this.to - this.from <= this.chunk) {
+                for (int i = 0; i < this.needles.length; i++) {
+                    if (this.found.get(i) != 0) {
+                        continue;
+                    }
+                    String needle = this.needles[i];
+                    if (needle.isEmpty()
+                            || countOccurrences(this.value, needle, this.caseSensitive, this.from, this.to, true) > 0) {
+                        this.found.set(i, 1);
+                    }
+                }
+                return null;
+            }
+            int middle = (this.from + this.to) >>> 1;
+            ContainsAllTask left = new ContainsAllTask(this.value, this.needles, this.caseSensitive, this.found,
+                    this.from, middle, this.chunk);
+            left.fork();
+            new ContainsAllTask(this.value, this.needles, this.caseSensitive, this.found, middle, this.to, this.chunk)
+                    .compute();
+            left.join();
+            return null;
+        }
+    }
+
+    private static final class CharsCountTask extends RecursiveTask<CharHistogram> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String value;
+        private final int from;
+        private final int to;
+        private final int chunk;
+
+        CharsCountTask(String value, int from, int to, int chunk) {
+            this.value = value;
+            this.from = from;
+            this.to = to;
+            this.chunk = chunk;
+        }
+
+        @Override
+        protected CharHistogram compute() {
+            if (this.to - this.from <= this.chunk) {
+                return new CharHistogram().addChars(this.value, this.from, this.to);
+            }
+            int middle = (this.from + this.to) >>> 1;
+            CharsCountTask left = new CharsCountTask(this.value, this.from, middle, this.chunk);
+            left.fork();
+            CharHistogram right = new CharsCountTask(this.value, middle, this.to, this.chunk).compute();
+            return left.join().merge(right);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ *
+ *  * The MIT License
+ *  *
+ *  * Copyright 2016 Shekhar Gulati <shekhargulati84@gmail.com>.
+ *  *
+ *  * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  * of this software and associated documentation files (the "Software"), to deal
+ *  * in the Software without restriction, including without limitation the rights
+ *  * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  * copies of the Software, and to permit persons to whom the Software is
+ *  * furnished to do so, subject to the following conditions:
+ *  *
+ *  * The above copyright notice and this permission notice shall be included in
+ *  * all copies or substantial portions of the Software.
+ *  *
+ *  * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  * THE SOFTWARE.
+ *
+ */
+
+
+package strman;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * A minimal perfect hash (CHD) over the first field of a table, generated at build time by gradle/tables.gradle
+ * which also writes the table rows in slot order. A key is looked up straight from a range of chars, without
+ * building a String, and lands on the only row that can hold it; callers still compare the row since unknown keys
+ * land on some row too.
+ */
+final class PerfectHash {
+
+    private static final int MAGIC = 0x53544832;
+
+    private final int size;
+    private final char[] displacements;
+
+    private PerfectHash(final int size, final char[] displacements) {
+        this.size = size;
+        this.displacements = displacements;
+    }
+
+    /**
+     * Loads the hash resource strman/name.hash
+     */
+    static PerfectHash load(final String name) {
+        try (InputStream stream = PerfectHash.class.getResourceAsStream(name + ".hash")) {
+            if (stream == null) {
+                throw new IllegalStateException("Missing hash resource strman/" + name
+                        + ".hash, it is generated by the generateTables build task");
+            }
+            DataInputStream in = new DataInputStream(new BufferedInputStream(stream));
+            if (in.readInt() != MAGIC) {
+                throw new IllegalStateException("Invalid hash resource strman/" + name + ".hash");
+            }
+            int size = in.readInt();
+            char[] displacements = new char[in.readInt()];
+            for (int i = 0; i < displacements.length; i++) {
+                displacements[i] = in.readChar();
+            }
+            return new PerfectHash(size, displacements);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns the only slot text[from, to) can be in, or -1 if no key hashes like it
+     */
+    int slot(final CharSequence text, final int from, final int to) {
+        int bucket = Integer.remainderUnsigned(hash(text, from, to, 0), this.displacements.length);
+        int seed = this.displacements[bucket];
+        return seed == 0 ? -1 : Integer.remainderUnsigned(hash(text, from, to, seed), this.size);
+    }
+
+    static int hash(final CharSequence text, final int from, final int to, final int seed) {
+        int hash = 0x811C9DC5 ^ seed * 0x9E3779B9;
+        for (int i = from; i < to; i++) {
+            hash = (hash ^ text.charAt(i)) * 0x01000193;
+        }
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        return hash ^ hash >>> 13;
+    }
+}
@@ -0,0 +1,574 @@
+/*
+ *
+ *  * The MIT License
+ *  *
+ *  * Copyright 2016 Shekhar Gulati <shekhargulati84@gmail.com>.
+ *  *
+ *  * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  * of this software and associated documentation files (the "Software"), to deal
+ *  * in the Software without restriction, including without limitation the rights
+ *  * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  * copies of the Software, and to permit persons to whom the Software is
+ *  * furnished to do so, subject to the following conditions:
+ *  *
+ *  * The above copyright notice and this permission notice shall be included in
+ *  * all copies or substantial portions of the Software.
+ *  *
+ *  * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  * THE SOFTWARE.
+ *
+ */
+
+
+package strman;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntPredicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * A compiled chain of transformations. Consecutive streaming stages are fused into a single pass over the input
+ * in which every char flows through all the stages; only {@link Builder#map(UnaryOperator)} stages need the whole
+ * intermediate String. A pipeline is immutable and can be shared between threads. Create one with
+ * {@link Strman#pipeline()}.
+ */
+public final class Pipeline {
+
+    private final Segment[] segments;
+
+    private Pipeline(List<Segment> segments) {
+        this.segments = segments.toArray(new Segment[segments.size()]);
+    }
+
+    /**
+     * Runs value through every stage of the pipeline
+     *
+     * @param value The input String
+     * @return The transformed String
+     */
+    public String apply(final String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("'value' should be not null.");
+        }
+        String result = value;
+        for (Segment segment : this.segments) {
+            result = segment.apply(result);
+        }
+        return result;
+    }
+
+    private static boolean isWhitespace(final char ch) {
+        return ch == ' ' || ch == '\t' || ch == '\n' || ch == '\u000B' || ch == '\f' || ch == '\r';
+    }
+
+    private static boolean isWordChar(final char ch) {
+        return (ch >= 'a' && ch <= 'z') || (ch >= 'A' && ch <= 'Z') || (ch >= '0' && ch <= '9') || ch == '_';
+    }
+
+    /**
+     * Collects the stages of a pipeline. Every method adds a stage and returns this builder.
+     */
+    public static final class Builder {
+
+        private final List<Segment> segments = new ArrayList<>();
+        private List<Stage> stages = new ArrayList<>();
+
+        Builder() {
+        }
+
+        /**
+         * Removes leading and trailing chars up to and including space, like {@link String#trim()}
+         *
+         * @return this builder
+         */
+        public Builder trim() {
+            return stage(next -> new Trim(next, true, true, false));
+        }
+
+        /**
+         * Removes leading whitespace, like {@link Strman#leftTrim(String)}
+         *
+         * @return this builder
+         */
+        public Builder leftTrim() {
+            return stage(next -> new Trim(next, true, false, true));
+        }
+
+        /**
+         * Removes trailing whitespace, like {@link Strman#rightTrim(String)}
+         *
+         * @return this builder
+         */
+        public Builder rightTrim() {
+            return stage(next -> new Trim(next, false, true, true));
+        }
+
+        /**
+         * Trims and replaces consecutive whitespace characters with a single space, like
+         * {@link Strman#collapseWhitespace(String)}
+         *
+         * @return this builder
+         */
+        public Builder collapseWhitespace() {
+            return stage(next -> new Trim(new CollapseWhitespace(next), true, true, false));
+        }
+
+        /**
+         * Removes all whitespace, like {@link Strman#removeSpaces(String)}
+         *
+         * @return this builder
+         */
+        public Builder removeSpaces() {
+            return stage(next -> new Filter(next, ch -> !isWhitespace((char) ch)));
+        }
+
+        /**
+         * Removes all non word characters, like {@link Strman#removeNonWords(String)}
+         *
+         * @return this builder
+         */
+        public Builder removeNonWords() {
+            return stage(next -> new Filter(next, ch -> isWordChar((char) ch)));
+        }
+
+        /**
+         * Replaces characters with their ASCII equivalents, like {@link Strman#transliterate(String)}. Every call
+         * of {@link Pipeline#apply(String)} uses the overlays registered with {@link Transliterations} at that time.
+         *
+         * @return this builder
+         */
+        public Builder transliterate() {
+            return stage(next -> new Transliterate(next, Transliterator.ascii()));
+        }
+
+        /**
+         * Converts every code point to lower case with {@link Character#toLowerCase(int)}
+         *
+         * @return this builder
+         */
+        public Builder lowerCase() {
+            return stage(next -> new CaseMapping(next, false));
+        }
+
+        /**
+         * Converts every code point to upper case with {@link Character#toUpperCase(int)}
+         *
+         * @return this builder
+         */
+        public Builder upperCase() {
+            return stage(next -> new CaseMapping(next, true));
+        }
+
+        /**
+         * Cuts the value to at most length chars
+         *
+         * @param length Size of the returned string
+         * @return this builder
+         */
+        public Builder truncate(final int length) {
+            return truncate(length, "");
+        }
+
+        /**
+         * Cuts the value to at most length chars, ending with filler when it was cut, like
+         * {@link Strman#truncate(String, int, String)}. A surrogate pair is never split.
+         *
+         * @param length Size of the returned string
+         * @param filler Value that will be added to the end of the return string. Example: '...'
+         * @return this builder
+         */
+        public Builder truncate(final int length, final String filler) {
+            if (filler == null) {
+                throw new IllegalArgumentException("'filler' should be not null.");
+            }
+            if (length < 0 || (length > 0 && length < filler.length())) {
+                throw new IllegalArgumentException("length should be zero or at least the length of filler");
+            }
+            return stage(next -> new Truncate(next, length, filler));
+        }
+
+        /**
+         * Applies an arbitrary function. The function sees the whole intermediate String, so the stages before
+         * and after it run as separate passes.
+         *
+         * @param function function to apply
+         * @return this builder
+         */
+        public Builder map(final UnaryOperator<String> function) {
+            if (function == null) {
+                throw new IllegalArgumentException("'function' should be not null.");
+            }
+            flushStages();
+            this.segments.add(new Segment(null, function));
+            return this;
+        }
+
+        /**
+         * Compiles the stages added so far
+         *
+         * @return a reusable, thread safe pipeline
+         */
+        public Pipeline compile() {
+            List<Segment> compiled = new ArrayList<>(this.segments);
+            if (!this.stages.isEmpty()) {
+                compiled.add(new Segment(new ArrayList<>(this.stages), null));
+            }
+            return new Pipeline(compiled);
+        }
+
+        private Builder stage(final Stage stage) {
+            this.stages.add(stage);
+            return this;
+        }
+
+        private void flushStages() {
+            if (!this.stages.isEmpty()) {
+                this.segments.add(new Segment(this.stages, null));
+                this.stages = new ArrayList<>();
+            }
+        }
+    }
+
+    private static final class Segment {
+
+        private final Stage[] stages;
+        private final UnaryOperator<String> function;
+
+        Segment(List<Stage> stages, UnaryOperator<String> function) {
+            this.stages = stages == null ? null : stages.toArray(new Stage[stages.size()]);
+            this.function = function;
+        }
+
+        String apply(final String value) {
+            if (this.function != null) {
+                return this.function.apply(value);
+            }
+            StringBuilder out = new StringBuilder(value.length() + 16);
+            Transducer head = new Sink(out);
+            for (int i = this.stages.length - 1; i >= 0; i--) {
+                head = this.stages[i].open(head);
+            }
+            int length = value.length();
+            for (int i = 0; i < length; i++) {
+                if ((i & 0xFF) == 0 && head.isClosed()) {
+                    break;
+                }
+                head.push(value.charAt(i));
+            }
+            head.end();
+            return out.toString();
+        }
+    }
+
+    /**
+     * Creates the per call state of a stage in front of the next transducer
+     */
+    @FunctionalInterface
+    private interface Stage {
+        Transducer open(Transducer next);
+    }
+
+    /**
+     * Receives the chars of the value one at a time and pushes its output to the next transducer
+     */
+    private abstract static class Transducer {
+
+        final Transducer next;
+
+        Transducer(Transducer next) {
+            this.next = next;
+        }
+
+        abstract void push(char ch);
+
+        void end() {
+            this.next.end();
+        }
+
+        /**
+         * Tests whether this transducer will never produce output again, so the rest of the input can be skipped
+         */
+        boolean isClosed() {
+            return this.next.isClosed();
+        }
+    }
+
+    private static final class Sink extends Transducer {
+
+        private final StringBuilder out;
+
+        Sink(StringBuilder out) {
+            super(null);
+            this.out = out;
+        }
+
+        @Override
+        void push(char ch) {
+            this.out.append(ch);
+        }
+
+        @Override
+        void end() {
+        }
+
+        @Override
+        boolean isClosed() {
+            return false;
+        }
+    }
+
+    private static final class Trim extends Transducer {
+
+        private final boolean left;
+        private final boolean right;
+        private final boolean whitespaceOnly;
+        private final StringBuilder pending = new StringBuilder();
+        private boolean started;
+
+        Trim(Transducer next, boolean left, boolean right, boolean whitespaceOnly) {
+            super(next);
+            this.left = left;
+            this.right = right;
+            this.whitespaceOnly = whitespaceOnly;
+        }
+
+        @Override
+        void push(char ch) {
+            boolean space = this.whitespaceOnly ? isWhitespace(ch) : ch <= ' ';
+            if (!space) {
+                this.started = true;
+                for (int i = 0; i < this.pending.length(); i++) {
+                    this.next.push(this.pending.charAt(i));
+                }
+                this.pending.setLength(0);
+                this.next.push(ch);
+            } else if (this.started || !this.left) {
+                if (this.right) {
+                    this.pending.append(ch);
+                } else {
+                    this.next.push(ch);
+                }
+            }
+        }
+    }
+
+    private static final class CollapseWhitespace extends Transducer {
+
+        private int run;
+        private char first;
+
+        CollapseWhitespace(Transducer next) {
+            super(next);
+        }
+
+        @Override
+        void push(char ch) {
+            if (isWhitespace(ch)) {
+                if (this.run++ == 0) {
+                    this.first = ch;
+                }
+                return;
+            }
+            flush();
+            this.next.push(ch);
+        }
+
+        @Override
+        void end() {
+            flush();
+            this.next.end();
+        }
+
+        private void flush() {
+            if (this.run == 1) {
+                this.next.push(this.first);
+            } else if (this.run > 1) {
+                this.next.push(' ');
+            }
+            this.run = 0;
+        }
+    }
+
+    private static final class Filter extends Transducer {
+
+        private final IntPredicate keep;
+
+        Filter(Transducer next, IntPredicate keep) {
+            super(next);
+            this.keep = keep;
+        }
+
+        @Override
+        void push(char ch) {
+            if (this.keep.test(ch)) {
+                this.next.push(ch);
+            }
+        }
+    }
+
+    private static final class CaseMapping extends Transducer {
+
+        private final boolean upper;
+        private char highSurrogate;
+
+        CaseMapping(Transducer next, boolean upper) {
+            super(next);
+            this.upper = upper;
+        }
+
+        @Override
+        void push(char ch) {
+            if (this.highSurrogate != 0) {
+                char high = this.highSurrogate;
+                this.highSurrogate = 0;
+                if (Character.isLowSurrogate(ch)) {
+                    emit(Character.toCodePoint(high, ch));
+                    return;
+                }
+                this.next.push(high);
+            }
+            if (Character.isHighSurrogate(ch)) {
+                this.highSurrogate = ch;
+            } else {
+                emit(ch);
+            }
+        }
+
+        @Override
+        void end() {
+            if (this.highSurrogate != 0) {
+                this.next.push(this.highSurrogate);
+            }
+            this.next.end();
+        }
+
+        private void emit(int codePoint) {
+            int mapped = this.upper ? Character.toUpperCase(codePoint) : Character.toLowerCase(codePoint);
+            if (Character.isBmpCodePoint(mapped)) {
+                this.next.push((char) mapped);
+            } else {
+                this.next.push(Character.highSurrogate(mapped));
+                this.next.push(Character.lowSurrogate(mapped));
+            }
+        }
+    }
+
+    private static final class Transliterate extends Transducer {
+
+        private final Transliterator transliterator;
+        private final StringBuilder pending = new StringBuilder();
+        private final StringBuilder replacement = new StringBuilder();
+
+        Transliterate(Transducer next, Transliterator transliterator) {
+            super(next);
+            this.transliterator = transliterator;
+        }
+
+        @Override
+        void push(char ch) {
+            if (this.pending.length() == 0 && !this.transliterator.startsSequence(ch)) {
+                String replacement = this.transliterator.replacement(ch);
+                if (replacement == null) {
+                    this.next.push(ch);
+                } else {
+                    emit(replacement);
+                }
+                return;
+            }
+            this.pending.append(ch);
+            drain(false);
+        }
+
+        @Override
+        void end() {
+            drain(true);
+            this.next.end();
+        }
+
+        private void drain(boolean last) {
+            while (this.pending.length() > 0) {
+                if (!last && this.transliterator.isSequencePrefix(this.pending)) {
+                    return;
+                }
+                this.replacement.setLength(0);
+                int consumed = this.transliterator.transliterateFirst(this.pending, this.replacement);
+                this.pending.delete(0, consumed);
+                emit(this.replacement);
+            }
+        }
+
+        private void emit(CharSequence chars) {
+            for (int i = 0; i < chars.length(); i++) {
+                this.next.push(chars.charAt(i));
+            }
+        }
+    }
+
+    private static final class Truncate extends Transducer {
+
+        private final int length;
+        private final String filler;
+        private final StringBuilder held = new StringBuilder();
+        private final int heldFrom;
+        private int count;
+        private boolean closed;
+
+        Truncate(Transducer next, int length, String filler) {
+            super(next);
+            this.length = length;
+            this.filler = filler;
+            this.heldFrom = Math.max(length - filler.length() - 1, 0);
+        }
+
+        @Override
+        void push(char ch) {
+            if (this.closed) {
+                return;
+            }
+            int kept = this.length - this.filler.length();
+            if (this.count == this.length) {
+                // the value is longer than length, so the held chars past the kept ones make way for the filler
+                if (this.length > 0) {
+                    this.held.append(ch);
+                    int end = Truncation.keepPairs(this.held, kept - this.heldFrom);
+                    for (int i = 0; i < end; i++) {
+                        this.next.push(this.held.charAt(i));
+                    }
+                    for (int i = 0; i < this.filler.length(); i++) {
+                        this.next.push(this.filler.charAt(i));
+                    }
+                }
+                this.closed = true;
+                return;
+            }
+            // the last kept char is held too, as it is dropped if it starts a surrogate pair which would be cut
+            if (this.count < this.heldFrom) {
+                this.next.push(ch);
+            } else {
+                this.held.append(ch);
+            }
+            this.count++;
+        }
+
+        @Override
+        void end() {
+            if (!this.closed) {
+                for (int i = 0; i < this.held.length(); i++) {
+                    this.next.push(this.held.charAt(i));
+                }
+            }
+            this.next.end();
+        }
+
+        @Override
+        boolean isClosed() {
+            return this.closed || this.next.isClosed();
+        }
+    }
+}
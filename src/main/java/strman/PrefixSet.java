@@ -0,0 +1,146 @@
+/*
+ *
+ *  * The MIT License
+ *  *
+ *  * Copyright 2016 Shekhar Gulati <shekhargulati84@gmail.com>.
+ *  *
+ *  * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  * of this software and associated documentation files (the "Software"), to deal
+ *  * in the Software without restriction, including without limitation the rights
+ *  * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  * copies of the Software, and to permit persons to whom the Software is
+ *  * furnished to do so, subject to the following conditions:
+ *  *
+ *  * The above copyright notice and this permission notice shall be included in
+ *  * all copies or substantial portions of the Software.
+ *  *
+ *  * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  * THE SOFTWARE.
+ *
+ */
+
+
+package strman;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * A compiled set of prefixes. The prefixes are kept in a trie, so finding the longest or shortest
+ * prefix of a value takes time proportional to the length of the match whatever the size of the set.
+ */
+public final class PrefixSet {
+
+    private final CharTrie trie;
+
+    private PrefixSet(final CharTrie trie) {
+        this.trie = trie;
+    }
+
+    /**
+     * Compiles a case sensitive PrefixSet
+     *
+     * @param prefixes The prefixes
+     * @return the compiled PrefixSet
+     */
+    public static PrefixSet of(final String... prefixes) {
+        if (prefixes == null) {
+            throw new IllegalArgumentException("'prefixes' should be not null.");
+        }
+        return compile(Arrays.asList(prefixes), true);
+    }
+
+    /**
+     * Compiles a PrefixSet
+     *
+     * @param prefixes      The prefixes
+     * @param caseSensitive whether matching should be case sensitive or not
+     * @return the compiled PrefixSet
+     */
+    public static PrefixSet compile(final Collection<String> prefixes, final boolean caseSensitive) {
+        if (prefixes == null) {
+            throw new IllegalArgumentException("'prefixes' should be not null.");
+        }
+        CharTrie trie = new CharTrie(!caseSensitive);
+        for (String prefix : prefixes) {
+            if (prefix == null) {
+                throw new IllegalArgumentException("'prefixes' should not contain null.");
+            }
+            trie.add(prefix, 0, false);
+        }
+        return new PrefixSet(trie);
+    }
+
+    /**
+     * Checks whether value starts with any of the prefixes
+     *
+     * @param value The input
+     * @return true if any prefix matches
+     */
+    public boolean startsWithAny(final CharSequence value) {
+        return shortestMatch(value) != CharTrie.NONE;
+    }
+
+    /**
+     * Returns the length of the longest prefix of value in the set
+     *
+     * @param value The input
+     * @return length of the longest match, or -1 if no prefix matches
+     */
+    public int longestMatch(final CharSequence value) {
+        return this.trie.longestKey(validate(value), false);
+    }
+
+    /**
+     * Returns the length of the shortest prefix of value in the set
+     *
+     * @param value The input
+     * @return length of the shortest match, or -1 if no prefix matches
+     */
+    public int shortestMatch(final CharSequence value) {
+        return this.trie.shortestKey(validate(value), false);
+    }
+
+    /**
+     * Removes the longest matching prefix from value
+     *
+     * @param value The input
+     * @return value without the prefix, or value itself if no prefix matches
+     */
+    public String removeAnyLeft(final String value) {
+        int length = longestMatch(value);
+        if (length <= 0) {
+            return value;
+        }
+        return value.substring(length);
+    }
+
+    /**
+     * Ensures value starts with one of the prefixes
+     *
+     * @param value The input
+     * @param prefix  The prefix to add when none matches
+     * @return value if a prefix matches, otherwise value with prefix added
+     */
+    public String ensureAnyLeft(final String value, final String prefix) {
+        if (prefix == null) {
+            throw new IllegalArgumentException("'prefix' should be not null.");
+        }
+        if (startsWithAny(value)) {
+            return value;
+        }
+        return prefix + value;
+    }
+
+    private static CharSequence validate(final CharSequence value) {
+        if (value == null) {
+            throw new IllegalArgumentException("'value' should be not null.");
+        }
+        return value;
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ *
+ *  * The MIT License
+ *  *
+ *  * Copyright 2016 Shekhar Gulati <shekhargulati84@gmail.com>.
+ *  *
+ *  * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  * of this software and associated documentation files (the "Software"), to deal
+ *  * in the Software without restriction, including without limitation the rights
+ *  * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  * copies of the Software, and to permit persons to whom the Software is
+ *  * furnished to do so, subject to the following conditions:
+ *  *
+ *  * The above copyright notice and this permission notice shall be included in
+ *  * all copies or substantial portions of the Software.
+ *  *
+ *  * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  * THE SOFTWARE.
+ *
+ */
+
+
+package strman;
+
+import java.util.Map;
+
+/**
+ * Replaces many literal strings at once, like PHP's strtr. The keys are compiled into an Aho-Corasick automaton
+ * so the input is scanned once, in time linear in its length whatever the number and length of the keys. At each position the longest key wins,
+ * and replaced text is never searched again. A compiled Replacer is immutable and can be shared between threads.
+ */
+public final class Replacer {
+
+    private final AhoCorasick automaton;
+    private final String[] replacements;
+
+    private Replacer(final AhoCorasick automaton, final String[] replacements) {
+        this.automaton = automaton;
+        this.replacements = replacements;
+    }
+
+    /**
+     * Compiles a case sensitive Replacer
+     *
+     * @param replacements map of the Strings to search to their replacements
+     * @return the compiled Replacer
+     */
+    public static Replacer compile(final Map<String, String> replacements) {
+        return compile(replacements, true);
+    }
+
+    /**
+     * Compiles a Replacer. When two keys are equal ignoring case, the first one in the map's iteration order wins.
+     *
+     * @param replacements  map of the Strings to search to their replacements
+     * @param caseSensitive whether search should be case sensitive or not
+     * @return the compiled Replacer
+     */
+    public static Replacer compile(final Map<String, String> replacements, final boolean caseSensitive) {
+        if (replacements == null) {
+            throw new IllegalArgumentException("'replacements' should be not null.");
+        }
+        String[] keys = new String[replacements.size()];
+        String[] values = new String[keys.length];
+        int i = 0;
+        for (Map.Entry<String, String> entry : replacements.entrySet()) {
+            if (entry.getKey() == null || entry.getKey().isEmpty()) {
+                throw new IllegalArgumentException("Keys should not be null or empty");
+            }
+            if (entry.getValue() == null) {
+                throw new IllegalArgumentException("Replacements should not be null");
+            }
+            keys[i] = entry.getKey();
+            values[i++] = entry.getValue();
+        }
+        return new Replacer(new AhoCorasick(keys, !caseSensitive), values);
+    }
+
+    /**
+     * Replaces every key found in value
+     *
+     * @param value The input
+     * @return value with the keys replaced, or value itself if it is a String without any key
+     */
+    public String replace(final CharSequence value) {
+        if (value == null) {
+            throw new IllegalArgumentException("'value' should be not null.");
+        }
+        int[] longest = this.automaton.longestAt(value);
+        int[] match = new int[3];
+        if (!this.automaton.find(longest, 0, match)) {
+            return value.toString();
+        }
+        StringBuilder builder = new StringBuilder(value.length() + 16);
+        int position = 0;
+        do {
+            builder.append(value, position, match[0]).append(this.replacements[match[2]]);
+            position = match[1];
+        } while (this.automaton.find(longest, position, match));
+        return builder.append(value, position, value.length()).toString();
+    }
+}
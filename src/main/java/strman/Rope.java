@@ -0,0 +1,385 @@
+/*
+ *
+ *  * The MIT License
+ *  *
+ *  * Copyright 2016 Shekhar Gulati <shekhargulati84@gmail.com>.
+ *  *
+ *  * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  * of this software and associated documentation files (the "Software"), to deal
+ *  * in the Software without restriction, including without limitation the rights
+ *  * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  * copies of the Software, and to permit persons to whom the Software is
+ *  * furnished to do so, subject to the following conditions:
+ *  *
+ *  * The above copyright notice and this permission notice shall be included in
+ *  * all copies or substantial portions of the Software.
+ *  *
+ *  * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  * THE SOFTWARE.
+ *
+ */
+
+
+package strman;
+
+/**
+ * An immutable CharSequence stored as a height balanced tree of String slices. Concatenation, insertion, deletion
+ * and slicing create a new rope in O(log n) without copying the content; a String is only built by
+ * {@link #toString()}.
+ */
+public final class Rope implements CharSequence {
+
+    private static final int MAX_LEAF_LENGTH = 256;
+    private static final Rope EMPTY = new Rope(new Leaf("", 0, 0));
+
+    private final Node root;
+
+    private Rope(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty rope
+     *
+     * @return empty rope
+     */
+    public static Rope empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Creates a rope with the content of value
+     *
+     * @param value The input
+     * @return rope with the same chars as value
+     */
+    public static Rope of(final CharSequence value) {
+        if (value == null) {
+            throw new IllegalArgumentException("'value' should be not null.");
+        }
+        if (value instanceof Rope) {
+            return (Rope) value;
+        }
+        if (value.length() == 0) {
+            return EMPTY;
+        }
+        String text = value.toString();
+        return new Rope(new Leaf(text, 0, text.length()));
+    }
+
+    @Override
+    public int length() {
+        return this.root.length;
+    }
+
+    @Override
+    public char charAt(final int index) {
+        if (index < 0 || index >= length()) {
+            throw new IndexOutOfBoundsException("index " + index + ", length " + length());
+        }
+        Node node = this.root;
+        int offset = index;
+        while (node instanceof Concat) {
+            Concat concat = (Concat) node;
+            if (offset < concat.left.length) {
+                node = concat.left;
+            } else {
+                offset -= concat.left.length;
+                node = concat.right;
+            }
+        }
+        return ((Leaf) node).charAt(offset);
+    }
+
+    @Override
+    public Rope subSequence(final int start, final int end) {
+        if (start < 0 || end > length() || start > end) {
+            throw new IndexOutOfBoundsException("start " + start + ", end " + end + ", length " + length());
+        }
+        if (start == 0 && end == length()) {
+            return this;
+        }
+        Node right = split(this.root, start)[1];
+        return wrap(split(right, end - start)[0]);
+    }
+
+    /**
+     * Alias of subSequence, like {@link Strman#slice(String, int, int)}
+     *
+     * @param begin Start of slice.
+     * @param end   End of slice.
+     * @return The rope sliced
+     */
+    public Rope slice(final int begin, final int end) {
+        return subSequence(begin, end);
+    }
+
+    /**
+     * Appends values to this rope, like {@link Strman#append(String, String...)}
+     *
+     * @param appends values to append
+     * @return concatenated rope
+     */
+    public Rope append(final CharSequence... appends) {
+        Node node = this.root;
+        for (CharSequence append : appends) {
+            node = join(node, of(append).root);
+        }
+        return wrap(node);
+    }
+
+    /**
+     * Prepends values to this rope, like {@link Strman#prepend(String, String...)}
+     *
+     * @param prepends values to prepend
+     * @return concatenated rope
+     */
+    public Rope prepend(final CharSequence... prepends) {
+        Node node = this.root;
+        for (int i = prepends.length - 1; i >= 0; i--) {
+            node = join(of(prepends[i]).root, node);
+        }
+        return wrap(node);
+    }
+
+    /**
+     * Inserts substr at index, like {@link Strman#insert(String, String, int)}. An index past the end leaves the
+     * rope unchanged.
+     *
+     * @param substr The value to insert
+     * @param index  The index to insert substr
+     * @return rope with substr added
+     */
+    public Rope insert(final CharSequence substr, final int index) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        if (index > length()) {
+            return this;
+        }
+        Node[] parts = split(this.root, index);
+        return wrap(join(join(parts[0], of(substr).root), parts[1]));
+    }
+
+    /**
+     * Removes the chars in [start, end)
+     *
+     * @param start index of the first char to remove
+     * @param end   index after the last char to remove
+     * @return rope without the removed chars
+     */
+    public Rope delete(final int start, final int end) {
+        if (start < 0 || end > length() || start > end) {
+            throw new IndexOutOfBoundsException("start " + start + ", end " + end + ", length " + length());
+        }
+        Node[] head = split(this.root, start);
+        Node[] tail = split(head[1], end - start);
+        return wrap(join(head[0], tail[1]));
+    }
+
+    /**
+     * Surrounds this rope with prefix and suffix, like {@link Strman#surround(String, String, String)}
+     *
+     * @param prefix prefix. If suffix is null then prefix is used
+     * @param suffix suffix
+     * @return surrounded rope
+     */
+    public Rope surround(final CharSequence prefix, final CharSequence suffix) {
+        CharSequence left = prefix == null ? "" : prefix;
+        return prepend(left).append(suffix == null ? left : suffix);
+    }
+
+    /**
+     * Builds a String with the content of this rope. This is the only operation which copies all the chars.
+     *
+     * @return the content of the rope
+     */
+    @Override
+    public String toString() {
+        char[] chars = new char[length()];
+        this.root.getChars(chars, 0);
+        return new String(chars);
+    }
+
+    int height() {
+        return this.root.height;
+    }
+
+    private static Rope wrap(final Node node) {
+        return node.length == 0 ? EMPTY : new Rope(node);
+    }
+
+    private static Node[] split(final Node node, final int index) {
+        if (index == 0) {
+            return new Node[]{EMPTY.root, node};
+        }
+        if (index == node.length) {
+            return new Node[]{node, EMPTY.root};
+        }
+        if (node instanceof Leaf) {
+            Leaf leaf = (Leaf) node;
+            return new Node[]{new Leaf(leaf.text, leaf.offset, index),
+                    new Leaf(leaf.text, leaf.offset + index, leaf.length - index)};
+        }
+        Concat concat = (Concat) node;
+        if (index < concat.left.length) {
+            Node[] parts = split(concat.left, index);
+            return new Node[]{parts[0], join(parts[1], concat.right)};
+        }
+        Node[] parts = split(concat.right, index - concat.left.length);
+        return new Node[]{join(concat.left, parts[0]), parts[1]};
+    }
+
+    private static Node join(final Node left, final Node right) {
+        if (left.length == 0) {
+            return right;
+        }
+        if (right.length == 0) {
+            return left;
+        }
+        if (left.length + right.length <= MAX_LEAF_LENGTH) {
+            return merge(left, right);
+        }
+        if (right.length < MAX_LEAF_LENGTH && left instanceof Concat) {
+            Node merged = appendToLastLeaf(left, right);
+            if (merged != null) {
+                return merged;
+            }
+        }
+        if (left.length < MAX_LEAF_LENGTH && right instanceof Concat) {
+            Node merged = prependToFirstLeaf(left, right);
+            if (merged != null) {
+                return merged;
+            }
+        }
+        if (left.height > right.height + 1) {
+            return joinRight((Concat) left, right);
+        }
+        if (right.height > left.height + 1) {
+            return joinLeft(left, (Concat) right);
+        }
+        return new Concat(left, right);
+    }
+
+    private static Node joinRight(final Concat left, final Node right) {
+        Node inner = left.right;
+        Node joined = inner.height <= right.height + 1 ? new Concat(inner, right) : joinRight((Concat) inner, right);
+        Concat result = new Concat(left.left, joined);
+        if (joined.height <= left.left.height + 1) {
+            return result;
+        }
+        if (inner.height <= right.height + 1) {
+            return rotateLeft(new Concat(left.left, rotateRight((Concat) joined)));
+        }
+        return rotateLeft(result);
+    }
+
+    private static Node joinLeft(final Node left, final Concat right) {
+        Node inner = right.left;
+        Node joined = inner.height <= left.height + 1 ? new Concat(left, inner) : joinLeft(left, (Concat) inner);
+        Concat result = new Concat(joined, right.right);
+        if (joined.height <= right.right.height + 1) {
+            return result;
+        }
+        if (inner.height <= left.height + 1) {
+            return rotateRight(new Concat(rotateLeft((Concat) joined), right.right));
+        }
+        return rotateRight(result);
+    }
+
+    private static Concat rotateLeft(final Concat node) {
+        Concat right = (Concat) node.right;
+        return new Concat(new Concat(node.left, right.left), right.right);
+    }
+
+    private static Concat rotateRight(final Concat node) {
+        Concat left = (Concat) node.left;
+        return new Concat(left.left, new Concat(left.right, node.right));
+    }
+
+    /**
+     * Merges a short right operand into the last leaf of left when the result stays small, so that appending
+     * small pieces one at a time doesn't produce a tree of tiny leaves
+     */
+    private static Node appendToLastLeaf(final Node left, final Node right) {
+        if (left instanceof Leaf) {
+            return left.length + right.length <= MAX_LEAF_LENGTH ? merge(left, right) : null;
+        }
+        Concat concat = (Concat) left;
+        Node merged = appendToLastLeaf(concat.right, right);
+        return merged == null ? null : new Concat(concat.left, merged);
+    }
+
+    private static Node prependToFirstLeaf(final Node left, final Node right) {
+        if (right instanceof Leaf) {
+            return left.length + right.length <= MAX_LEAF_LENGTH ? merge(left, right) : null;
+        }
+        Concat concat = (Concat) right;
+        Node merged = prependToFirstLeaf(left, concat.left);
+        return merged == null ? null : new Concat(merged, concat.right);
+    }
+
+    private static Leaf merge(final Node left, final Node right) {
+        char[] chars = new char[left.length + right.length];
+        left.getChars(chars, 0);
+        right.getChars(chars, left.length);
+        return new Leaf(new String(chars), 0, chars.length);
+    }
+
+    private abstract static class Node {
+
+        final int length;
+        final int height;
+
+        Node(int length, int height) {
+            this.length = length;
+            this.height = height;
+        }
+
+        abstract void getChars(char[] destination, int position);
+    }
+
+    private static final class Leaf extends Node {
+
+        private final String text;
+        private final int offset;
+
+        Leaf(String text, int offset, int length) {
+            super(length, 0);
+            this.text = text;
+            this.offset = offset;
+        }
+
+        char charAt(int index) {
+            return this.text.charAt(this.offset + index);
+        }
+
+        @Override
+        void getChars(char[] destination, int position) {
+            this.text.getChars(this.offset, this.offset + this.length, destination, position);
+        }
+    }
+
+    private static final class Concat extends Node {
+
+        private final Node left;
+        private final Node right;
+
+        Concat(Node left, Node right) {
+            super(left.length + right.length, Math.max(left.height, right.height) + 1);
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        void getChars(char[] destination, int position) {
+            this.left.getChars(destination, position);
+            this.right.getChars(destination, position + this.left.length);
+        }
+    }
+}
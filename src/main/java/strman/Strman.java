@@ -26,6 +26,7 @@
 
 package strman;
 
+import java.nio.CharBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.function.Predicate;
@@ -33,9 +34,7 @@ import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.IntStream;
-import java.util.stream.Stream;
 
-import static java.util.function.Function.identity;
 import static java.util.stream.Collectors.*;
 
 /**
@@ -73,11 +72,7 @@ public abstract class Strman {
         if (appends == null || appends.length == 0) {
             return value;
         }
-        StringJoiner joiner = new StringJoiner("");
-        for (String append : appends) {
-            joiner.add(append);
-        }
-        return value + joiner.toString();
+        return Concatenation.append(value, appends);
     }
 
     /**
@@ -100,6 +95,82 @@ public abstract class Strman {
         return (index < length && index >= 0) ? Optional.of(String.valueOf(value.charAt(index))) : Optional.empty();
     }
 
+    /**
+     * Get the char at index without allocating, for loops where {@link #at(String, int)} would create an Optional
+     * and a String per call.
+     *
+     * @param value input value
+     * @param index location, a negative index counts from the end
+     * @return the char or -1 if there is none at index
+     */
+    public static int charAt(final String value, final int index) {
+        int i = offset(value, index);
+        return i < 0 ? -1 : value.charAt(i);
+    }
+
+    /**
+     * Get the code point at index without allocating. If index is the high surrogate of a pair the whole
+     * supplementary code point is returned; like {@link String#codePointAt(int)}, a low surrogate at index is
+     * returned as it is.
+     *
+     * @param value input value
+     * @param index location in chars, a negative index counts from the end
+     * @return the code point or -1 if there is none at index
+     */
+    public static int codePointAt(final String value, final int index) {
+        int i = offset(value, index);
+        return i < 0 ? -1 : value.codePointAt(i);
+    }
+
+    // resolves index like at does, returning -1 when it is out of range
+    private static int offset(final String value, final int index) {
+        if (isNullOrEmpty(value)) {
+            return -1;
+        }
+        int i = index < 0 ? value.length() + index : index;
+        return i < value.length() && i >= 0 ? i : -1;
+    }
+
+    /**
+     * Get the grapheme cluster, i.e. the user perceived character, at index. Unlike {@link #at(String, int)} this
+     * keeps surrogate pairs, combining marks and emoji sequences together.
+     *
+     * @param value input value
+     * @param index location, a negative index counts from the end
+     * @return an Optional String if found else empty
+     */
+    public static Optional<String> graphemeAt(final String value, int index) {
+        if (isNullOrEmpty(value)) {
+            return Optional.empty();
+        }
+        int[] boundaries = Graphemes.boundaries(value);
+        int length = boundaries.length - 1;
+        if (index < 0) {
+            index = length + index;
+        }
+        return (index < length && index >= 0)
+                ? Optional.of(value.substring(boundaries[index], boundaries[index + 1])) : Optional.empty();
+    }
+
+    /**
+     * Get the code point at a code point index, so that supplementary characters such as emoji count as one.
+     *
+     * @param value input value
+     * @param index index in code points, a negative index counts from the end
+     * @return the code point or -1 if there is none at index
+     */
+    public static int nthCodePoint(final String value, final int index) {
+        if (isNullOrEmpty(value)) {
+            return -1;
+        }
+        int length = value.codePointCount(0, value.length());
+        int n = index < 0 ? length + index : index;
+        if (n < 0 || n >= length) {
+            return -1;
+        }
+        return value.codePointAt(value.offsetByCodePoints(0, n));
+    }
+
     /**
      * Returns an array with strings between start and end.
      *
@@ -114,11 +185,7 @@ public abstract class Strman {
         validate(start, NULL_STRING_PREDICATE, () -> "'start' should be not null.");
         validate(end, NULL_STRING_PREDICATE, () -> "'end' should be not null.");
 
-        String[] parts = value.split(end);
-        return Arrays.stream(parts)
-                .filter(subPart -> subPart.contains(start))
-                .map(subPart -> subPart.substring(subPart.indexOf(start) + start.length()))
-                .toArray(String[]::new);
+        return Extractor.compile(start, end).extract(value);
     }
 
     /**
@@ -132,6 +199,34 @@ public abstract class Strman {
         return value.split("");
     }
 
+    /**
+     * Decodes the code points of value into dest without allocating. An unpaired surrogate counts as a code point
+     * of its own. If dest is too short only its length is filled, and the returned count tells how long it would
+     * have to be.
+     *
+     * @param value input
+     * @param dest  array to fill with code points
+     * @return number of code points in value
+     */
+    public static int codePoints(final CharSequence value, final int[] dest) {
+        if (Objects.isNull(value) || Objects.isNull(dest)) {
+            throw new IllegalArgumentException("'value' and 'dest' should be not null.");
+        }
+        int count = 0;
+        int length = value.length();
+        for (int i = 0; i < length; count++) {
+            char ch = value.charAt(i++);
+            int codePoint = ch;
+            if (Character.isHighSurrogate(ch) && i < length && Character.isLowSurrogate(value.charAt(i))) {
+                codePoint = Character.toCodePoint(ch, value.charAt(i++));
+            }
+            if (count < dest.length) {
+                dest[count] = codePoint;
+            }
+        }
+        return count;
+    }
+
     /**
      * Replace consecutive whitespace characters with a single space.
      *
@@ -140,7 +235,7 @@ public abstract class Strman {
      */
     public static String collapseWhitespace(final String value) {
         validate(value, NULL_STRING_PREDICATE, NULL_STRING_MSG_SUPPLIER);
-        return value.trim().replaceAll("\\s\\s+", " ");
+        return LinearRegex.replaceAll(value.trim(), "\\s\\s+", " ");
     }
 
     /**
@@ -416,6 +511,24 @@ public abstract class Strman {
         return Optional.ofNullable(value).filter(v -> !v.isEmpty()).map(v -> v.substring(0, n));
     }
 
+    /**
+     * Returns a view of the first n chars of value which shares its chars instead of copying them. Unlike
+     * {@link #first(String, int)} an n past the end gives the whole value.
+     *
+     * @param value The input
+     * @param n     Number of chars to return, not negative
+     * @return A view of the first n chars
+     */
+    public static CharSequence firstView(final CharSequence value, final int n) {
+        if (Objects.isNull(value)) {
+            throw new IllegalArgumentException(NULL_STRING_MSG_SUPPLIER.get());
+        }
+        if (n < 0) {
+            throw new IllegalArgumentException("n should not be negative");
+        }
+        return CharBuffer.wrap(value, 0, Math.min(n, value.length()));
+    }
+
     /**
      * Return the first char of String
      *
@@ -523,7 +636,7 @@ public abstract class Strman {
         if (index > value.length()) {
             return value;
         }
-        return append(value.substring(0, index), substr, value.substring(index));
+        return Concatenation.insert(value, substr, index);
     }
 
     /**
@@ -534,12 +647,7 @@ public abstract class Strman {
      */
     public static boolean isUpperCase(final String value) {
         validate(value, NULL_STRING_PREDICATE, NULL_STRING_MSG_SUPPLIER);
-        for (int i = 0; i < value.length(); i++) {
-            if (Character.isLowerCase(value.charAt(i))) {
-                return false;
-            }
-        }
-        return true;
+        return CaseMapper.isUpperCase(value);
     }
 
     /**
@@ -550,12 +658,7 @@ public abstract class Strman {
      */
     public static boolean isLowerCase(final String value) {
         validate(value, NULL_STRING_PREDICATE, NULL_STRING_MSG_SUPPLIER);
-        for (int i = 0; i < value.length(); i++) {
-            if (Character.isUpperCase(value.charAt(i))) {
-                return false;
-            }
-        }
-        return true;
+        return CaseMapper.isLowerCase(value);
     }
 
     /**
@@ -587,7 +690,23 @@ public abstract class Strman {
         if (value.length() > length) {
             return value;
         }
-        return append(repeat(pad, length - value.length()), value);
+        return Concatenation.pad(value, pad, length - value.length(), true);
+    }
+
+    /**
+     * Returns a new string padded at the beginning to length, counted in the given measure. Only whole pads are
+     * added, so the result can be shorter than length, e.g. when padding with a wide character.
+     *
+     * @param value   The input String
+     * @param pad     The pad
+     * @param length  Length of the String we want
+     * @param measure How the size of value and pad is counted
+     * @return Padded String
+     */
+    public static String leftPad(final String value, final String pad, final int length, final Measure measure) {
+        validate(value, NULL_STRING_PREDICATE, NULL_STRING_MSG_SUPPLIER);
+        validate(pad, NULL_STRING_PREDICATE, NULL_STRING_MSG_SUPPLIER);
+        return Concatenation.pad(value, pad, padCount(value, pad, length, measure), true);
     }
 
     /**
@@ -658,7 +777,7 @@ public abstract class Strman {
      */
     public static String leftTrim(final String value) {
         validate(value, NULL_STRING_PREDICATE, NULL_STRING_MSG_SUPPLIER);
-        return value.replaceAll("^\\s+", "");
+        return LinearRegex.replaceAll(value, "^\\s+", "");
     }
 
     /**
@@ -672,6 +791,28 @@ public abstract class Strman {
         return value.length();
     }
 
+    /**
+     * Returns the number of grapheme clusters, i.e. user perceived characters, in value
+     *
+     * @param value The input String
+     * @return Number of graphemes
+     */
+    public static int graphemeLength(final String value) {
+        validate(value, NULL_STRING_PREDICATE, NULL_STRING_MSG_SUPPLIER);
+        return Graphemes.count(value);
+    }
+
+    /**
+     * Returns the number of code points in value, counting a supplementary character once
+     *
+     * @param value The input String
+     * @return Number of code points
+     */
+    public static int codePointLength(final String value) {
+        validate(value, NULL_STRING_PREDICATE, NULL_STRING_MSG_SUPPLIER);
+        return value.codePointCount(0, value.length());
+    }
+
     /**
      * Return a new String starting with prepends
      *
@@ -695,11 +836,7 @@ public abstract class Strman {
         if (prepends == null || prepends.length == 0) {
             return value;
         }
-        StringJoiner joiner = new StringJoiner("");
-        for (String prepend : prepends) {
-            joiner.add(prepend);
-        }
-        return joiner.toString() + value;
+        return Concatenation.prepend(value, prepends);
     }
 
     /**
@@ -751,7 +888,7 @@ public abstract class Strman {
      */
     public static String removeNonWords(final String value) {
         validate(value, NULL_STRING_PREDICATE, NULL_STRING_MSG_SUPPLIER);
-        return value.replaceAll("[^\\w]+", "");
+        return LinearRegex.replaceAll(value, "[^\\w]+", "");
     }
 
     /**
@@ -788,7 +925,7 @@ public abstract class Strman {
      */
     public static String removeSpaces(final String value) {
         validate(value, NULL_STRING_PREDICATE, NULL_STRING_MSG_SUPPLIER);
-        return value.replaceAll("\\s", "");
+        return LinearRegex.replaceAll(value, "\\s", "");
     }
 
     /**
@@ -800,11 +937,12 @@ public abstract class Strman {
      */
     public static String repeat(final String value, final int multiplier) {
         validate(value, NULL_STRING_PREDICATE, NULL_STRING_MSG_SUPPLIER);
-        return Stream.generate(() -> value).limit(multiplier).collect(joining());
+        return Concatenation.repeat(value, multiplier);
     }
 
     /**
-     * Replace all occurrences of 'search' value to 'newvalue'. Uses String replace method.
+     * Replace all occurrences of 'search' value to 'newvalue'. The search is literal, also when it is not case
+     * sensitive.
      *
      * @param value         The input
      * @param search        The String to search
@@ -816,15 +954,45 @@ public abstract class Strman {
                                  final boolean caseSensitive) {
         validate(value, NULL_STRING_PREDICATE, NULL_STRING_MSG_SUPPLIER);
         validate(search, NULL_STRING_PREDICATE, NULL_STRING_MSG_SUPPLIER);
+        validate(newValue, NULL_STRING_PREDICATE, NULL_STRING_MSG_SUPPLIER);
         if (caseSensitive) {
             return value.replace(search, newValue);
         }
-        return Pattern.compile(search, Pattern.CASE_INSENSITIVE).matcher(value)
-                .replaceAll(Matcher.quoteReplacement(newValue));
+        return new LiteralSearch(search, true).replace(value, newValue);
+    }
+
+    /**
+     * Replaces all occurrences of the keys of replacements with their values in a single pass. At each position the
+     * longest matching key wins and replaced text is not searched again.
+     *
+     * @param value        The input
+     * @param replacements map of the Strings to search to their replacements
+     * @return String with the keys replaced
+     */
+    public static String replaceAll(final CharSequence value, final Map<String, String> replacements) {
+        return replaceAll(value, replacements, true);
+    }
+
+    /**
+     * Replaces all occurrences of the keys of replacements with their values in a single pass. At each position the
+     * longest matching key wins and replaced text is not searched again.
+     *
+     * @param value         The input
+     * @param replacements  map of the Strings to search to their replacements
+     * @param caseSensitive whether search should be case sensitive or not
+     * @return String with the keys replaced
+     */
+    public static String replaceAll(final CharSequence value, final Map<String, String> replacements,
+                                    final boolean caseSensitive) {
+        if (Objects.isNull(value)) {
+            throw new IllegalArgumentException(NULL_STRING_MSG_SUPPLIER.get());
+        }
+        return Replacer.compile(replacements, caseSensitive).replace(value);
     }
 
     /**
-     * Reverse the input String
+     * Reverse the input String. Surrogate pairs are kept in order, so supplementary characters are reversed as whole
+     * code points.
      *
      * @param value The input String
      * @return Reversed String
@@ -834,6 +1002,25 @@ public abstract class Strman {
         return new StringBuilder(value).reverse().toString();
     }
 
+    /**
+     * Reverse the grapheme clusters of the input String, so accented letters and emoji stay intact
+     *
+     * @param value The input String
+     * @return Reversed String
+     */
+    public static String reverseGraphemes(final String value) {
+        validate(value, NULL_STRING_PREDICATE, NULL_STRING_MSG_SUPPLIER);
+        if (Graphemes.isTrivial(value)) {
+            return new StringBuilder(value).reverse().toString();
+        }
+        int[] boundaries = Graphemes.boundaries(value);
+        StringBuilder builder = new StringBuilder(value.length());
+        for (int i = boundaries.length - 1; i > 0; i--) {
+            builder.append(value, boundaries[i - 1], boundaries[i]);
+        }
+        return builder.toString();
+    }
+
     /**
      * Returns a new string of a given length such that the ending of the string is padded.
      *
@@ -844,10 +1031,47 @@ public abstract class Strman {
      */
     public static String rightPad(final String value, String pad, final int length) {
         validate(value, NULL_STRING_PREDICATE, NULL_STRING_MSG_SUPPLIER);
+        validate(pad, NULL_STRING_PREDICATE, NULL_STRING_MSG_SUPPLIER);
         if (value.length() > length) {
             return value;
         }
-        return append(value, repeat(pad, length - value.length()));
+        return Concatenation.pad(value, pad, length - value.length(), false);
+    }
+
+    /**
+     * Returns a new string padded at the end to length, counted in the given measure. Only whole pads are added, so
+     * the result can be shorter than length, e.g. when padding with a wide character.
+     *
+     * @param value   The input String
+     * @param pad     The pad
+     * @param length  Max length of String
+     * @param measure How the size of value and pad is counted
+     * @return Right padded String
+     */
+    public static String rightPad(final String value, final String pad, final int length, final Measure measure) {
+        validate(value, NULL_STRING_PREDICATE, NULL_STRING_MSG_SUPPLIER);
+        validate(pad, NULL_STRING_PREDICATE, NULL_STRING_MSG_SUPPLIER);
+        return Concatenation.pad(value, pad, padCount(value, pad, length, measure), false);
+    }
+
+    private static int padCount(final String value, final String pad, final int length, final Measure measure) {
+        int padSize = measure.size(pad, Integer.MAX_VALUE);
+        int size = measure.size(value, length);
+        return padSize == 0 || size >= length ? 0 : (length - size) / padSize;
+    }
+
+    /**
+     * Returns the number of terminal columns value takes, as wcwidth computes them. East Asian wide characters and
+     * most emoji take two columns, combining marks and other zero width characters none, and the rest one.
+     *
+     * @param value The input
+     * @return Display width of value
+     */
+    public static int displayWidth(final CharSequence value) {
+        if (Objects.isNull(value)) {
+            throw new IllegalArgumentException(NULL_STRING_MSG_SUPPLIER.get());
+        }
+        return DisplayWidth.of(value);
     }
 
     /**
@@ -858,7 +1082,7 @@ public abstract class Strman {
      */
     public static String rightTrim(final String value) {
         validate(value, NULL_STRING_PREDICATE, NULL_STRING_MSG_SUPPLIER);
-        return value.replaceAll("\\s+$", "");
+        return LinearRegex.replaceAll(value, "\\s+$", "");
     }
 
     /**
@@ -870,26 +1094,22 @@ public abstract class Strman {
      * @return The truncated String
      */
     public static String safeTruncate(final String value, final int length, final String filler) {
-        validate(value, NULL_STRING_PREDICATE, NULL_STRING_MSG_SUPPLIER);
-        if (length == 0) {
-            return "";
-        }
-        if (length >= value.length()) {
-            return value;
-        }
+        return safeTruncate(value, length, filler, Measure.CHARS);
+    }
 
-        String[] words = words(value);
-        StringJoiner result = new StringJoiner(" ");
-        int spaceCount = 0;
-        for (String word : words) {
-            if (result.length() + word.length() + filler.length() + spaceCount > length) {
-                break;
-            } else {
-                result.add(word);
-                spaceCount++;
-            }
-        }
-        return append(result.toString(), filler);
+    /**
+     * Truncate the string securely, not cutting a word in half, with length counted in the given measure
+     *
+     * @param value   The input String
+     * @param length  Max size of the truncated String
+     * @param filler  String that will be added to the end of the return string. Example: '...'
+     * @param measure How the size of value and filler is counted
+     * @return The truncated String
+     */
+    public static String safeTruncate(final String value, final int length, final String filler,
+                                      final Measure measure) {
+        validate(value, NULL_STRING_PREDICATE, NULL_STRING_MSG_SUPPLIER);
+        return Truncation.safeTruncate(value, length, filler, measure);
     }
 
     /**
@@ -901,7 +1121,7 @@ public abstract class Strman {
      */
     public static String[] split(final String value, final String regex) {
         validate(value, NULL_STRING_PREDICATE, NULL_STRING_MSG_SUPPLIER);
-        return value.split(regex);
+        return LinearRegex.split(value, regex);
     }
 
     /**
@@ -923,7 +1143,7 @@ public abstract class Strman {
      */
     public static String[] words(final String value, final String delimiter) {
         validate(value, NULL_STRING_PREDICATE, NULL_STRING_MSG_SUPPLIER);
-        return value.split(delimiter);
+        return LinearRegex.split(value, delimiter);
     }
 
 
@@ -936,14 +1156,22 @@ public abstract class Strman {
      * @return String truncated unsafely.
      */
     public static String truncate(final String value, final int length, final String filler) {
+        return truncate(value, length, filler, Measure.CHARS);
+    }
+
+    /**
+     * Truncate the string at the required position with length counted in the given measure. A surrogate pair is
+     * never cut in half, nor is a grapheme when measuring graphemes.
+     *
+     * @param value   Value will be truncated unsecurely.
+     * @param length  Size of the returned string.
+     * @param filler  Value that will be added to the end of the return string. Example: '...'
+     * @param measure How the size of value and filler is counted
+     * @return String truncated unsafely.
+     */
+    public static String truncate(final String value, final int length, final String filler, final Measure measure) {
         validate(value, NULL_STRING_PREDICATE, NULL_STRING_MSG_SUPPLIER);
-        if (length == 0) {
-            return "";
-        }
-        if (length >= value.length()) {
-            return value;
-        }
-        return append(value.substring(0, length - filler.length()), filler);
+        return Truncation.truncate(value, length, filler, measure);
     }
 
     /**
@@ -954,8 +1182,7 @@ public abstract class Strman {
      */
     public static String htmlDecode(final String encodedHtml) {
         validate(encodedHtml, NULL_STRING_PREDICATE, NULL_STRING_MSG_SUPPLIER);
-        String[] entities = encodedHtml.split("&\\W+;");
-        return Arrays.stream(entities).map(e -> HtmlEntities.decodedEntities.get(e)).collect(joining());
+        return HtmlEntities.decode(encodedHtml, new StringBuilder(encodedHtml.length())).toString();
     }
 
     /**
@@ -966,8 +1193,7 @@ public abstract class Strman {
      */
     public static String htmlEncode(final String html) {
         validate(html, NULL_STRING_PREDICATE, NULL_STRING_MSG_SUPPLIER);
-        return html.chars().mapToObj(c -> "\\u" + String.format("%04x", c).toUpperCase())
-                .map(HtmlEntities.encodedEntities::get).collect(joining());
+        return HtmlEntities.encode(html, new StringBuilder(html.length() * 2)).toString();
     }
 
     /**
@@ -1014,6 +1240,35 @@ public abstract class Strman {
         return Arrays.stream(words(transliterated.replace("&", "-and-"), "\\W+")).collect(joining("-"));
     }
 
+    /**
+     * Convert a String to a slug, optionally folding accents so that e.g. "ä" becomes "a" rather than "ae"
+     *
+     * @param value       The value to slugify
+     * @param foldAccents whether to fold accents with {@link #foldAccents(String)} instead of transliterating
+     * @return The slugified value
+     */
+    public static String slugify(final String value, final boolean foldAccents) {
+        if (!foldAccents) {
+            return slugify(value);
+        }
+        validate(value, NULL_STRING_PREDICATE, NULL_STRING_MSG_SUPPLIER);
+        String folded = AccentFolding.fold(collapseWhitespace(value.trim().toLowerCase()));
+        return Arrays.stream(words(folded.replace("&", "-and-"), "\\W+")).collect(joining("-"));
+    }
+
+    /**
+     * Remove accents by dropping the combining marks of decomposed letters, e.g. "Crème Brûlée" becomes
+     * "Creme Brulee". Characters which don't decompose to ASCII are transliterated like
+     * {@link #transliterate(String)}. ASCII values are returned as they are.
+     *
+     * @param value The input String
+     * @return String without accents
+     */
+    public static String foldAccents(final String value) {
+        validate(value, NULL_STRING_PREDICATE, NULL_STRING_MSG_SUPPLIER);
+        return AccentFolding.fold(value);
+    }
+
     /**
      * Remove all non valid characters.
      *
@@ -1022,14 +1277,7 @@ public abstract class Strman {
      */
     public static String transliterate(final String value) {
         validate(value, NULL_STRING_PREDICATE, NULL_STRING_MSG_SUPPLIER);
-        String result = value;
-        Set<Map.Entry<String, List<String>>> entries = Ascii.ascii.entrySet();
-        for (Map.Entry<String, List<String>> entry : entries) {
-            for (String ch : entry.getValue()) {
-                result = result.replace(ch, entry.getKey());
-            }
-        }
-        return result;
+        return Transliterator.ascii().transliterate(value);
     }
 
     /**
@@ -1068,7 +1316,7 @@ public abstract class Strman {
      */
     public static String toStudlyCase(final String value) {
         validate(value, NULL_STRING_PREDICATE, NULL_STRING_MSG_SUPPLIER);
-        String[] words = collapseWhitespace(value.trim()).split("\\s*(_|-|\\s)\\s*");
+        String[] words = LinearRegex.split(collapseWhitespace(value.trim()), "\\s*(_|-|\\s)\\s*");
         return Arrays.stream(words).filter(w -> !w.trim().isEmpty()).map(Strman::upperFirst).collect(joining());
     }
 
@@ -1082,6 +1330,20 @@ public abstract class Strman {
         return Optional.ofNullable(value).filter(v -> !v.isEmpty()).map(v -> last(v, v.length() - 1));
     }
 
+    /**
+     * Returns a view of value without its first char which shares its chars instead of copying them. The tail of an
+     * empty value is empty.
+     *
+     * @param value The input
+     * @return A view of the tail
+     */
+    public static CharSequence tailView(final CharSequence value) {
+        if (Objects.isNull(value)) {
+            throw new IllegalArgumentException(NULL_STRING_MSG_SUPPLIER.get());
+        }
+        return CharBuffer.wrap(value, Math.min(1, value.length()), value.length());
+    }
+
     /**
      * Decamelize String
      *
@@ -1091,7 +1353,7 @@ public abstract class Strman {
      */
     public static String toDecamelize(final String value, final String chr) {
         String camelCasedString = toCamelCase(value);
-        String[] words = camelCasedString.split("(?=\\p{Upper})");
+        String[] words = LinearRegex.split(camelCasedString, "(?=\\p{Upper})");
         return Arrays.stream(words).map(String::toLowerCase).collect(joining(Optional.ofNullable(chr).orElse(" ")));
     }
 
@@ -1141,11 +1403,7 @@ public abstract class Strman {
         if (separator == null) {
             throw new IllegalArgumentException("separator can't be null");
         }
-        StringJoiner joiner = new StringJoiner(separator);
-        for (String el : strings) {
-            joiner.add(el);
-        }
-        return joiner.toString();
+        return Concatenation.join(strings, separator);
     }
 
     /**
@@ -1246,7 +1504,7 @@ public abstract class Strman {
     public static Optional<String> trimStart(final String input, String... chars) {
         return Optional.ofNullable(input).filter(v -> !v.isEmpty()).map(v -> {
             String pattern = String.format("^[%s]+", join(chars, "\\"));
-            return v.replaceAll(pattern, "");
+            return LinearRegex.replaceAll(v, pattern, "");
         });
     }
 
@@ -1270,7 +1528,7 @@ public abstract class Strman {
     public static Optional<String> trimEnd(final String input, String... chars) {
         return Optional.ofNullable(input).filter(v -> !v.isEmpty()).map(v -> {
             String pattern = String.format("[%s]+$", join(chars, "\\"));
-            return v.replaceAll(pattern, "");
+            return LinearRegex.replaceAll(v, pattern, "");
         });
     }
 
@@ -1285,7 +1543,7 @@ public abstract class Strman {
             return Collections.emptyMap();
         }
 
-        return input.chars().mapToObj(c -> (char) c).collect(groupingBy(identity(), counting()));
+        return CharHistogram.ofChars(input).toMap();
     }
 
     /**
@@ -1309,7 +1567,8 @@ public abstract class Strman {
             return "";
         }
 
-        return input.trim().replaceAll("([a-z\\d])([A-Z]+)", "$1_$2").replaceAll("[-\\s]+", "_").toLowerCase();
+        String underscored = LinearRegex.replaceAll(input.trim(), "([a-z\\d])([A-Z]+)", "$1_$2");
+        return LinearRegex.replaceAll(underscored, "[-\\s]+", "_").toLowerCase();
     }
 
     /**
@@ -1344,7 +1603,7 @@ public abstract class Strman {
         if (input == null) {
             return EMPTY_ARRAY;
         }
-        return input.split("\r\n?|\n");
+        return LinearRegex.split(input, "\r\n?|\n");
     }
 
     /**
@@ -1367,11 +1626,13 @@ public abstract class Strman {
         if (input == null || input.length() == 0) {
             return "";
         }
-        return upperFirst(underscored(input).replaceAll("_", " "));
+        return upperFirst(underscored(input).replace('_', ' '));
     }
 
     /**
-     * Returns a copy of the string in which all the case-based characters have had their case swapped.
+     * Returns a copy of the string in which all the case-based characters have had their case swapped. Supplementary
+     * characters are swapped as whole code points, and characters whose upper case is longer, such as "ß" to "SS",
+     * get their full mapping.
      *
      * @param input Input string
      * @return String with all the case swapped
@@ -1380,15 +1641,7 @@ public abstract class Strman {
         if (input == null || input.length() == 0) {
             return "";
         }
-        StringBuilder resultBuilder = new StringBuilder();
-        for (char ch : input.toCharArray()) {
-            if (Character.isUpperCase(ch)) {
-                resultBuilder.append(Character.toLowerCase(ch));
-            } else {
-                resultBuilder.append(Character.toUpperCase(ch));
-            }
-        }
-        return resultBuilder.toString();
+        return CaseMapper.swapCase(input);
     }
 
     /**
@@ -1429,6 +1682,29 @@ public abstract class Strman {
                 .toArray(String[]::new);
     }
 
+    /**
+     * Like {@link #chop(String, int)} but step counts grapheme clusters, so none is split across pieces
+     *
+     * @param input String to chop
+     * @param step  Number of graphemes the String is chopped into
+     * @return String Array
+     */
+    public static String[] chopGraphemes(String input, int step) {
+        if (input == null || input.length() == 0) {
+            return EMPTY_ARRAY;
+        }
+        if (step == 0) {
+            return new String[]{input};
+        }
+        int[] boundaries = Graphemes.boundaries(input);
+        int graphemes = boundaries.length - 1;
+        int iterations = graphemes % step == 0 ? graphemes / step : graphemes / step + 1;
+        return IntStream.iterate(0, i -> i + step)
+                .limit(iterations)
+                .mapToObj(i -> input.substring(boundaries[i], boundaries[Math.min(i + step, graphemes)]))
+                .toArray(String[]::new);
+    }
+
     /**
      * Converts a String into its Start Case version
      * https://en.wikipedia.org/wiki/Letter_case#Stylistic_or_specialised_usage
@@ -1446,7 +1722,29 @@ public abstract class Strman {
 
     public static String escapeRegExp(final String input) {
         validate(input, NULL_STRING_PREDICATE, NULL_STRING_MSG_SUPPLIER);
-        return input.replaceAll("[\\\\\\^\\$\\*\\+\\-\\?\\.\\|\\(\\)\\{\\}\\[\\]]", "\\\\$0");
+        return LinearRegex.replaceAll(input, "[\\\\\\^\\$\\*\\+\\-\\?\\.\\|\\(\\)\\{\\}\\[\\]]", "\\\\$0");
+    }
+
+    /**
+     * Returns a bulk view of strings that applies the Strman transforms to every element
+     *
+     * @param strings The input array
+     * @return Bulk operations over strings
+     */
+    public static Bulk bulk(final String[] strings) {
+        if (Objects.isNull(strings)) {
+            throw new IllegalArgumentException("Input array should not be null");
+        }
+        return new Bulk(strings);
+    }
+
+    /**
+     * Starts a pipeline of transformations which are fused into a single pass where possible
+     *
+     * @return a pipeline builder
+     */
+    public static Pipeline.Builder pipeline() {
+        return new Pipeline.Builder();
     }
 
     private static void validate(String value, Predicate<String> predicate, final Supplier<String> supplier) {
@@ -1456,17 +1754,16 @@ public abstract class Strman {
     }
 
     private static long countSubstr(String value, String subStr, boolean allowOverlapping, long count) {
-        int position = value.indexOf(subStr);
-        if (position == -1) {
+        if (subStr.isEmpty()) {
             return count;
         }
-        int offset;
-        if (!allowOverlapping) {
-            offset = position + subStr.length();
-        } else {
-            offset = position + 1;
+        int step = allowOverlapping ? 1 : subStr.length();
+        int position = value.indexOf(subStr);
+        while (position != -1) {
+            count++;
+            position = value.indexOf(subStr, position + step);
         }
-        return countSubstr(value.substring(offset), subStr, allowOverlapping, ++count);
+        return count;
     }
 
     private static boolean isNullOrEmpty(String input) {
@@ -0,0 +1,540 @@
+/*
+ *
+ *  * The MIT License
+ *  *
+ *  * Copyright 2016 Shekhar Gulati <shekhargulati84@gmail.com>.
+ *  *
+ *  * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  * of this software and associated documentation files (the "Software"), to deal
+ *  * in the Software without restriction, including without limitation the rights
+ *  * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  * copies of the Software, and to permit persons to whom the Software is
+ *  * furnished to do so, subject to the following conditions:
+ *  *
+ *  * The above copyright notice and this permission notice shall be included in
+ *  * all copies or substantial portions of the Software.
+ *  *
+ *  * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  * THE SOFTWARE.
+ *
+ */
+
+
+package strman;
+
+import java.util.Arrays;
+
+/**
+ * A mutable sequence of chars with in place versions of the Strman operations. Every operation works on the
+ * internal buffer directly, growing it at most once and moving the existing chars in a single pass.
+ */
+public final class StrmanBuilder implements CharSequence {
+
+    private char[] value;
+    private int count;
+    private int[] matches = new int[16];
+
+    /**
+     * Creates an empty builder
+     */
+    public StrmanBuilder() {
+        this(16);
+    }
+
+    /**
+     * Creates an empty builder
+     *
+     * @param capacity initial capacity of the buffer
+     */
+    public StrmanBuilder(final int capacity) {
+        this.value = new char[capacity];
+    }
+
+    /**
+     * Creates a builder holding the chars of value
+     *
+     * @param value initial content
+     */
+    public StrmanBuilder(final CharSequence value) {
+        this(validate(value).length() + 16);
+        append(value);
+    }
+
+    @Override
+    public int length() {
+        return this.count;
+    }
+
+    @Override
+    public char charAt(final int index) {
+        if (index < 0 || index >= this.count) {
+            throw new IndexOutOfBoundsException("index " + index + ", length " + this.count);
+        }
+        return this.value[index];
+    }
+
+    @Override
+    public CharSequence subSequence(final int start, final int end) {
+        if (start < 0 || end > this.count || start > end) {
+            throw new IndexOutOfBoundsException("start " + start + ", end " + end + ", length " + this.count);
+        }
+        return new String(this.value, start, end - start);
+    }
+
+    @Override
+    public String toString() {
+        return new String(this.value, 0, this.count);
+    }
+
+    /**
+     * Appends value to the end
+     *
+     * @param value chars to append
+     * @return this builder
+     */
+    public StrmanBuilder append(final CharSequence value) {
+        return insert(value, this.count);
+    }
+
+    /**
+     * Appends a char to the end
+     *
+     * @param ch char to append
+     * @return this builder
+     */
+    public StrmanBuilder append(final char ch) {
+        ensureCapacity(this.count + 1);
+        this.value[this.count++] = ch;
+        return this;
+    }
+
+    /**
+     * Sets the length, cutting the content or filling it with NUL chars
+     *
+     * @param length new length
+     * @return this builder
+     */
+    public StrmanBuilder setLength(final int length) {
+        if (length < 0) {
+            throw new IndexOutOfBoundsException("length " + length);
+        }
+        ensureCapacity(length);
+        if (length > this.count) {
+            Arrays.fill(this.value, this.count, length, '\0');
+        }
+        this.count = length;
+        return this;
+    }
+
+    /**
+     * Inserts substr at index. An index past the end leaves the builder unchanged.
+     *
+     * @param substr The String to insert
+     * @param index  The index to insert substr
+     * @return this builder
+     * @see Strman#insert(String, String, int)
+     */
+    public StrmanBuilder insert(final CharSequence substr, final int index) {
+        validate(substr);
+        if (index < 0) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        if (index > this.count) {
+            return this;
+        }
+        int length = substr.length();
+        ensureCapacity(this.count + length);
+        System.arraycopy(this.value, index, this.value, index + length, this.count - index);
+        copy(substr, this.value, index);
+        this.count += length;
+        return this;
+    }
+
+    /**
+     * Ensures that the content begins with prefix. It is case sensitive.
+     *
+     * @param prefix prefix
+     * @return this builder
+     * @see Strman#ensureLeft(String, String)
+     */
+    public StrmanBuilder ensureLeft(final String prefix) {
+        return ensureLeft(prefix, true);
+    }
+
+    /**
+     * Ensures that the content begins with prefix. If it doesn't, it's prepended.
+     *
+     * @param prefix        prefix
+     * @param caseSensitive true or false
+     * @return this builder
+     * @see Strman#ensureLeft(String, String, boolean)
+     */
+    public StrmanBuilder ensureLeft(final String prefix, final boolean caseSensitive) {
+        return regionMatches(0, prefix, caseSensitive) ? this : insert(prefix, 0);
+    }
+
+    /**
+     * Ensures that the content ends with suffix. It is case sensitive.
+     *
+     * @param suffix suffix
+     * @return this builder
+     * @see Strman#ensureRight(String, String)
+     */
+    public StrmanBuilder ensureRight(final String suffix) {
+        return ensureRight(suffix, true);
+    }
+
+    /**
+     * Ensures that the content ends with suffix. If it doesn't, it's appended.
+     *
+     * @param suffix        suffix
+     * @param caseSensitive true or false
+     * @return this builder
+     * @see Strman#ensureRight(String, String, boolean)
+     */
+    public StrmanBuilder ensureRight(final String suffix, final boolean caseSensitive) {
+        validate(suffix);
+        return regionMatches(this.count - suffix.length(), suffix, caseSensitive) ? this : append(suffix);
+    }
+
+    /**
+     * Removes prefix if present. It is case sensitive.
+     *
+     * @param prefix prefix to remove
+     * @return this builder
+     * @see Strman#removeLeft(String, String)
+     */
+    public StrmanBuilder removeLeft(final String prefix) {
+        return removeLeft(prefix, true);
+    }
+
+    /**
+     * Removes prefix if present
+     *
+     * @param prefix        prefix to remove
+     * @param caseSensitive true or false
+     * @return this builder
+     * @see Strman#removeLeft(String, String, boolean)
+     */
+    public StrmanBuilder removeLeft(final String prefix, final boolean caseSensitive) {
+        validate(prefix);
+        if (regionMatches(0, prefix, caseSensitive)) {
+            delete(0, prefix.length());
+        }
+        return this;
+    }
+
+    /**
+     * Removes suffix if present. It is case sensitive.
+     *
+     * @param suffix suffix to remove
+     * @return this builder
+     * @see Strman#removeRight(String, String)
+     */
+    public StrmanBuilder removeRight(final String suffix) {
+        return removeRight(suffix, true);
+    }
+
+    /**
+     * Removes suffix if present
+     *
+     * @param suffix        suffix to remove
+     * @param caseSensitive true or false
+     * @return this builder
+     * @see Strman#removeRight(String, String, boolean)
+     */
+    public StrmanBuilder removeRight(final String suffix, final boolean caseSensitive) {
+        validate(suffix);
+        if (regionMatches(this.count - suffix.length(), suffix, caseSensitive)) {
+            this.count -= suffix.length();
+        }
+        return this;
+    }
+
+    /**
+     * Pads the beginning with pad repeated until the content has the given length
+     *
+     * @param pad    The pad
+     * @param length Length of the content we want
+     * @return this builder
+     * @see Strman#leftPad(String, String, int)
+     */
+    public StrmanBuilder leftPad(final String pad, final int length) {
+        validate(pad);
+        if (this.count >= length) {
+            return this;
+        }
+        int padding = (length - this.count) * pad.length();
+        ensureCapacity(this.count + padding);
+        System.arraycopy(this.value, 0, this.value, padding, this.count);
+        fill(pad, 0, padding);
+        this.count += padding;
+        return this;
+    }
+
+    /**
+     * Pads the end with pad repeated until the content has the given length
+     *
+     * @param pad    Character to repeat
+     * @param length Max length of the content
+     * @return this builder
+     * @see Strman#rightPad(String, String, int)
+     */
+    public StrmanBuilder rightPad(final String pad, final int length) {
+        validate(pad);
+        if (this.count >= length) {
+            return this;
+        }
+        int padding = (length - this.count) * pad.length();
+        ensureCapacity(this.count + padding);
+        fill(pad, this.count, this.count + padding);
+        this.count += padding;
+        return this;
+    }
+
+    /**
+     * Trims and replaces consecutive whitespace characters with a single space
+     *
+     * @return this builder
+     * @see Strman#collapseWhitespace(String)
+     */
+    public StrmanBuilder collapseWhitespace() {
+        int start = 0;
+        int end = this.count;
+        while (start < end && this.value[start] <= ' ') {
+            start++;
+        }
+        while (end > start && this.value[end - 1] <= ' ') {
+            end--;
+        }
+        int next = 0;
+        for (int i = start; i < end; i++) {
+            char ch = this.value[i];
+            if (isWhitespace(ch) && i + 1 < end && isWhitespace(this.value[i + 1])) {
+                while (i + 1 < end && isWhitespace(this.value[i + 1])) {
+                    i++;
+                }
+                ch = ' ';
+            }
+            this.value[next++] = ch;
+        }
+        this.count = next;
+        return this;
+    }
+
+    /**
+     * Reverses the content, keeping surrogate pairs in order
+     *
+     * @return this builder
+     * @see Strman#reverse(String)
+     */
+    public StrmanBuilder reverse() {
+        boolean surrogates = false;
+        for (int i = 0, j = this.count - 1; i < j; i++, j--) {
+            char ch = this.value[i];
+            this.value[i] = this.value[j];
+            this.value[j] = ch;
+            surrogates |= Character.isSurrogate(ch) || Character.isSurrogate(this.value[i]);
+        }
+        if (surrogates || (this.count % 2 == 1 && Character.isSurrogate(this.value[this.count / 2]))) {
+            for (int i = 0; i < this.count - 1; i++) {
+                if (Character.isLowSurrogate(this.value[i]) && Character.isHighSurrogate(this.value[i + 1])) {
+                    char ch = this.value[i];
+                    this.value[i] = this.value[i + 1];
+                    this.value[++i] = ch;
+                }
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Swaps the case of every code point, in place unless a full case mapping changes the length such as "ß" which
+     * upper cases to "SS"
+     *
+     * @return this builder
+     * @see Strman#swapCase(String)
+     */
+    public StrmanBuilder swapCase() {
+        int stop = CaseMapper.swapCase(this.value, this.count);
+        if (stop < this.count) {
+            String tail = CaseMapper.swapCase(new String(this.value, stop, this.count - stop));
+            this.count = stop;
+            append(tail);
+        }
+        return this;
+    }
+
+    /**
+     * Replaces all occurrences of search with newValue
+     *
+     * @param search        The String to search
+     * @param newValue      The String to replace
+     * @param caseSensitive whether search should be case sensitive or not
+     * @return this builder
+     * @see Strman#replace(String, String, String, boolean)
+     */
+    public StrmanBuilder replace(final String search, final String newValue, final boolean caseSensitive) {
+        validate(search);
+        validate(newValue);
+        int found = findAll(search, caseSensitive);
+        if (found == 0) {
+            return this;
+        }
+        int searchLength = search.length();
+        int newLength = newValue.length();
+        int length = this.count + found * (newLength - searchLength);
+        if (newLength <= searchLength) {
+            // the content shrinks, so a left to right pass never overwrites chars it still has to read
+            int next = 0;
+            int read = 0;
+            for (int i = 0; i < found; i++) {
+                int match = this.matches[i];
+                System.arraycopy(this.value, read, this.value, next, match - read);
+                next += match - read;
+                newValue.getChars(0, newLength, this.value, next);
+                next += newLength;
+                read = match + searchLength;
+            }
+            System.arraycopy(this.value, read, this.value, next, this.count - read);
+        } else {
+            // the content grows, so the chars are moved right to left
+            ensureCapacity(length);
+            int next = length;
+            int read = this.count;
+            for (int i = found - 1; i >= 0; i--) {
+                int end = this.matches[i] + searchLength;
+                next -= read - end;
+                System.arraycopy(this.value, end, this.value, next, read - end);
+                next -= newLength;
+                newValue.getChars(0, newLength, this.value, next);
+                read = this.matches[i];
+            }
+        }
+        this.count = length;
+        return this;
+    }
+
+    /**
+     * Cuts the content to at most length chars, ending with filler when it was cut. A surrogate pair is never split.
+     *
+     * @param length Size of the content
+     * @param filler Value that will be added to the end. Example: '...'
+     * @return this builder
+     * @see Strman#truncate(String, int, String)
+     */
+    public StrmanBuilder truncate(final int length, final String filler) {
+        validate(filler);
+        if (length == 0) {
+            this.count = 0;
+            return this;
+        }
+        if (length >= this.count) {
+            return this;
+        }
+        if (length < filler.length()) {
+            throw new IllegalArgumentException("length should be zero or at least the length of filler");
+        }
+        this.count = Truncation.keepPairs(this, length - filler.length());
+        return append(filler);
+    }
+
+    /**
+     * Makes sure the buffer can hold capacity chars without growing
+     *
+     * @param capacity minimum capacity
+     */
+    public void ensureCapacity(final int capacity) {
+        if (capacity > this.value.length) {
+            this.value = Arrays.copyOf(this.value, Math.max(capacity, this.value.length * 2 + 2));
+        }
+    }
+
+    private StrmanBuilder delete(final int start, final int end) {
+        System.arraycopy(this.value, end, this.value, start, this.count - end);
+        this.count -= end - start;
+        return this;
+    }
+
+    private boolean regionMatches(final int offset, final String other, final boolean caseSensitive) {
+        validate(other);
+        if (offset < 0 || offset + other.length() > this.count) {
+            return false;
+        }
+        for (int i = 0; i < other.length(); i++) {
+            if (!charEquals(this.value[offset + i], other.charAt(i), caseSensitive)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Records the start of every non overlapping occurrence of search in matches, growing it when needed.
+     * The empty String matches at every index, like {@link String#replace(CharSequence, CharSequence)}.
+     */
+    private int findAll(final String search, final boolean caseSensitive) {
+        int found = 0;
+        int step = Math.max(1, search.length());
+        for (int i = 0; i + search.length() <= this.count; ) {
+            if (regionMatches(i, search, caseSensitive)) {
+                if (found == this.matches.length) {
+                    this.matches = Arrays.copyOf(this.matches, found * 2);
+                }
+                this.matches[found++] = i;
+                i += step;
+            } else {
+                i++;
+            }
+        }
+        return found;
+    }
+
+    private void fill(final String pad, final int from, final int to) {
+        if (pad.length() == 1) {
+            Arrays.fill(this.value, from, to, pad.charAt(0));
+            return;
+        }
+        for (int i = from; i < to; i += pad.length()) {
+            pad.getChars(0, pad.length(), this.value, i);
+        }
+    }
+
+    private static void copy(final CharSequence source, final char[] destination, final int position) {
+        if (source instanceof String) {
+            ((String) source).getChars(0, source.length(), destination, position);
+            return;
+        }
+        for (int i = 0; i < source.length(); i++) {
+            destination[position + i] = source.charAt(i);
+        }
+    }
+
+    private static boolean charEquals(final char a, final char b, final boolean caseSensitive) {
+        if (a == b) {
+            return true;
+        }
+        if (caseSensitive) {
+            return false;
+        }
+        char upperA = Character.toUpperCase(a);
+        char upperB = Character.toUpperCase(b);
+        return upperA == upperB || Character.toLowerCase(upperA) == Character.toLowerCase(upperB);
+    }
+
+    private static boolean isWhitespace(final char ch) {
+        return ch == ' ' || ch == '\t' || ch == '\n' || ch == '\u000B' || ch == '\f' || ch == '\r';
+    }
+
+    private static <T> T validate(final T value) {
+        if (value == null) {
+            throw new IllegalArgumentException("'value' should be not null.");
+        }
+        return value;
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ *
+ *  * The MIT License
+ *  *
+ *  * Copyright 2016 Shekhar Gulati <shekhargulati84@gmail.com>.
+ *  *
+ *  * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  * of this software and associated documentation files (the "Software"), to deal
+ *  * in the Software without restriction, including without limitation the rights
+ *  * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  * copies of the Software, and to permit persons to whom the Software is
+ *  * furnished to do so, subject to the following conditions:
+ *  *
+ *  * The above copyright notice and this permission notice shall be included in
+ *  * all copies or substantial portions of the Software.
+ *  *
+ *  * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  * THE SOFTWARE.
+ *
+ */
+
+
+package strman;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * A compiled set of suffixes. The suffixes are kept in a trie of reversed strings, so finding the longest or shortest
+ * suffix of a value takes time proportional to the length of the match whatever the size of the set.
+ */
+public final class SuffixSet {
+
+    private final CharTrie trie;
+
+    private SuffixSet(final CharTrie trie) {
+        this.trie = trie;
+    }
+
+    /**
+     * Compiles a case sensitive SuffixSet
+     *
+     * @param suffixes The suffixes
+     * @return the compiled SuffixSet
+     */
+    public static SuffixSet of(final String... suffixes) {
+        if (suffixes == null) {
+            throw new IllegalArgumentException("'suffixes' should be not null.");
+        }
+        return compile(Arrays.asList(suffixes), true);
+    }
+
+    /**
+     * Compiles a SuffixSet
+     *
+     * @param suffixes      The suffixes
+     * @param caseSensitive whether matching should be case sensitive or not
+     * @return the compiled SuffixSet
+     */
+    public static SuffixSet compile(final Collection<String> suffixes, final boolean caseSensitive) {
+        if (suffixes == null) {
+            throw new IllegalArgumentException("'suffixes' should be not null.");
+        }
+        CharTrie trie = new CharTrie(!caseSensitive);
+        for (String suffix : suffixes) {
+            if (suffix == null) {
+                throw new IllegalArgumentException("'suffixes' should not contain null.");
+            }
+            trie.add(suffix, 0, true);
+        }
+        return new SuffixSet(trie);
+    }
+
+    /**
+     * Checks whether value ends with any of the suffixes
+     *
+     * @param value The input
+     * @return true if any suffix matches
+     */
+    public boolean endsWithAny(final CharSequence value) {
+        return shortestMatch(value) != CharTrie.NONE;
+    }
+
+    /**
+     * Returns the length of the longest suffix of value in the set
+     *
+     * @param value The input
+     * @return length of the longest match, or -1 if no suffix matches
+     */
+    public int longestMatch(final CharSequence value) {
+        return this.trie.longestKey(validate(value), true);
+    }
+
+    /**
+     * Returns the length of the shortest suffix of value in the set
+     *
+     * @param value The input
+     * @return length of the shortest match, or -1 if no suffix matches
+     */
+    public int shortestMatch(final CharSequence value) {
+        return this.trie.shortestKey(validate(value), true);
+    }
+
+    /**
+     * Removes the longest matching suffix from value
+     *
+     * @param value The input
+     * @return value without the suffix, or value itself if no suffix matches
+     */
+    public String removeAnyRight(final String value) {
+        int length = longestMatch(value);
+        if (length <= 0) {
+            return value;
+        }
+        return value.substring(0, value.length() - length);
+    }
+
+    /**
+     * Ensures value ends with one of the suffixes
+     *
+     * @param value The input
+     * @param suffix  The suffix to add when none matches
+     * @return value if a suffix matches, otherwise value with suffix added
+     */
+    public String ensureAnyRight(final String value, final String suffix) {
+        if (suffix == null) {
+            throw new IllegalArgumentException("'suffix' should be not null.");
+        }
+        if (endsWithAny(value)) {
+            return value;
+        }
+        return value + suffix;
+    }
+
+    private static CharSequence validate(final CharSequence value) {
+        if (value == null) {
+            throw new IllegalArgumentException("'value' should be not null.");
+        }
+        return value;
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ *
+ *  * The MIT License
+ *  *
+ *  * Copyright 2016 Shekhar Gulati <shekhargulati84@gmail.com>.
+ *  *
+ *  * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  * of this software and associated documentation files (the "Software"), to deal
+ *  * in the Software without restriction, including without limitation the rights
+ *  * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  * copies of the Software, and to permit persons to whom the Software is
+ *  * furnished to do so, subject to the following conditions:
+ *  *
+ *  * The above copyright notice and this permission notice shall be included in
+ *  * all copies or substantial portions of the Software.
+ *  *
+ *  * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  * THE SOFTWARE.
+ *
+ */
+
+
+package strman;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * A table of rows of String fields, compiled at build time from a text file in src/main/tables into a binary
+ * resource (see gradle/tables.gradle) and loaded into primitive arrays. The binary layout is the magic number, the
+ * number of rows, fields and chars as ints, then the field count of every row and the length of every field as
+ * unsigned shorts, then all the chars.
+ */
+final class Table {
+
+    private static final int MAGIC = 0x53544231;
+
+    private final char[] chars;
+    // fieldStarts[i] is the offset of field i in chars, with a final entry for the end
+    private final int[] fieldStarts;
+    // rowStarts[i] is the index of the first field of row i, with a final entry for the end
+    private final int[] rowStarts;
+
+    private Table(final char[] chars, final int[] fieldStarts, final int[] rowStarts) {
+        this.chars = chars;
+        this.fieldStarts = fieldStarts;
+        this.rowStarts = rowStarts;
+    }
+
+    /**
+     * Loads the table resource strman/name.bin
+     */
+    static Table load(final String name) {
+        try (InputStream stream = Table.class.getResourceAsStream(name + ".bin")) {
+            if (stream == null) {
+                throw new IllegalStateException("Missing table resource strman/" + name
+                        + ".bin, it is generated by the generateTables build task");
+            }
+            DataInputStream in = new DataInputStream(new BufferedInputStream(stream));
+            if (in.readInt() != MAGIC) {
+                throw new IllegalStateException("Invalid table resource strman/" + name + ".bin");
+            }
+            int[] rowStarts = new int[in.readInt() + 1];
+            int[] fieldStarts = new int[in.readInt() + 1];
+            char[] chars = new char[in.readInt()];
+            for (int i = 1; i < rowStarts.length; i++) {
+                rowStarts[i] = rowStarts[i - 1] + in.readUnsignedShort();
+            }
+            for (int i = 1; i < fieldStarts.length; i++) {
+                fieldStarts[i] = fieldStarts[i - 1] + in.readUnsignedShort();
+            }
+            byte[] bytes = new byte[chars.length * 2];
+            in.readFully(bytes);
+            for (int i = 0; i < chars.length; i++) {
+                chars[i] = (char) ((bytes[i * 2] & 0xFF) << 8 | bytes[i * 2 + 1] & 0xFF);
+            }
+            return new Table(chars, fieldStarts, rowStarts);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    int rows() {
+        return this.rowStarts.length - 1;
+    }
+
+    int fields(final int row) {
+        return this.rowStarts[row + 1] - this.rowStarts[row];
+    }
+
+    int length(final int row, final int field) {
+        int index = this.rowStarts[row] + field;
+        return this.fieldStarts[index + 1] - this.fieldStarts[index];
+    }
+
+    char charAt(final int row, final int field, final int index) {
+        return this.chars[this.fieldStarts[this.rowStarts[row] + field] + index];
+    }
+
+    String field(final int row, final int field) {
+        int index = this.rowStarts[row] + field;
+        return new String(this.chars, this.fieldStarts[index], this.fieldStarts[index + 1] - this.fieldStarts[index]);
+    }
+
+    StringBuilder append(final int row, final int field, final StringBuilder builder) {
+        int index = this.rowStarts[row] + field;
+        return builder.append(this.chars, this.fieldStarts[index], this.fieldStarts[index + 1] - this.fieldStarts[index]);
+    }
+
+    /**
+     * Tests whether the first field of row equals text[from, to)
+     */
+    boolean matches(final int row, final CharSequence text, final int from, final int to) {
+        int start = this.fieldStarts[this.rowStarts[row]];
+        if (this.fieldStarts[this.rowStarts[row] + 1] - start != to - from) {
+            return false;
+        }
+        for (int i = from; i < to; i++) {
+            if (this.chars[start++] != text.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ *
+ *  * The MIT License
+ *  *
+ *  * Copyright 2016 Shekhar Gulati <shekhargulati84@gmail.com>.
+ *  *
+ *  * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  * of this software and associated documentation files (the "Software"), to deal
+ *  * in the Software without restriction, including without limitation the rights
+ *  * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  * copies of the Software, and to permit persons to whom the Software is
+ *  * furnished to do so, subject to the following conditions:
+ *  *
+ *  * The above copyright notice and this permission notice shall be included in
+ *  * all copies or substantial portions of the Software.
+ *  *
+ *  * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  * THE SOFTWARE.
+ *
+ */
+
+
+package strman;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Overlay mappings for {@link Strman#transliterate(String)}, {@link Strman#slugify(String)} and the transliterate
+ * stage of {@link Pipeline}. An overlay takes precedence over the built-in tables, and where several overlays match
+ * the longest one wins, e.g. registering "ä" to "a" gives Swedish rather than German style transliteration.
+ * <p>
+ * Registering publishes a new immutable snapshot atomically. Calls in progress keep the snapshot they started with
+ * and transliteration never blocks on a lock.
+ */
+public final class Transliterations {
+
+    private Transliterations() {
+    }
+
+    /**
+     * Registers source to be transliterated to replacement, replacing an earlier overlay of the same source
+     *
+     * @param source      the chars to replace, not empty
+     * @param replacement the replacement
+     */
+    public static void register(final String source, final String replacement) {
+        register(Collections.singletonMap(source, replacement));
+    }
+
+    /**
+     * Registers all mappings at once, so no transliteration sees only some of them
+     *
+     * @param mappings sources and their replacements
+     */
+    public static void register(final Map<String, String> mappings) {
+        if (mappings == null) {
+            throw new IllegalArgumentException("Mappings should not be null");
+        }
+        Transliterator.register(mappings);
+    }
+
+    /**
+     * Removes all overlays, leaving only the built-in tables
+     */
+    public static void clear() {
+        Transliterator.clearOverlays();
+    }
+}
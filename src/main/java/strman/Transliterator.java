@@ -0,0 +1,331 @@
+/*
+ *
+ *  * The MIT License
+ *  *
+ *  * Copyright 2016 Shekhar Gulati <shekhargulati84@gmail.com>.
+ *  *
+ *  * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  * of this software and associated documentation files (the "Software"), to deal
+ *  * in the Software without restriction, including without limitation the rights
+ *  * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  * copies of the Software, and to permit persons to whom the Software is
+ *  * furnished to do so, subject to the following conditions:
+ *  *
+ *  * The above copyright notice and this permission notice shall be included in
+ *  * all copies or substantial portions of the Software.
+ *  *
+ *  * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  * THE SOFTWARE.
+ *
+ */
+
+
+package strman;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Transliteration to ASCII. The built-in tables in src/main/tables are split by script into profiles, and a profile
+ * is loaded the first time a char of its script is seen, so Latin text never loads the Arabic table. Registered
+ * overlay mappings take precedence over the profiles. An instance is an immutable snapshot of the overlays;
+ * registering swaps in a new snapshot atomically, so readers never lock.
+ */
+final class Transliterator {
+
+    private static final String[] PROFILES = {"common", "latin", "greek", "cyrillic", "arabic", "georgian",
+        "myanmar", "devanagari"};
+    private static final int NO_PROFILE = -1;
+    private static final int COMMON = 0;
+
+    private static final AtomicReferenceArray<Profile> LOADED = new AtomicReferenceArray<>(PROFILES.length);
+    private static final AtomicReference<Transliterator> CURRENT =
+            new AtomicReference<>(new Transliterator(new LinkedHashMap<>()));
+
+    private final Map<String, String> mappings;
+    private final CharTrie overlay;
+    private final String[] replacements;
+
+    private Transliterator(final Map<String, String> mappings) {
+        this.mappings = mappings;
+        this.overlay = new CharTrie(false);
+        this.replacements = mappings.values().toArray(new String[0]);
+        int i = 0;
+        for (String source : mappings.keySet()) {
+            this.overlay.add(source, i++, false);
+        }
+    }
+
+    /**
+     * Returns the current snapshot
+     */
+    static Transliterator ascii() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Adds overlay mappings from sources to their replacements; a source already registered gets the new replacement
+     */
+    static void register(final Map<String, String> mappings) {
+        Map<String, String> checked = new LinkedHashMap<>();
+        mappings.forEach((source, replacement) -> {
+            if (source == null || source.isEmpty() || replacement == null) {
+                throw new IllegalArgumentException("Sources should not be null or empty and replacements not null");
+            }
+            checked.put(source, replacement);
+        });
+        CURRENT.updateAndGet(current -> {
+            Map<String, String> merged = new LinkedHashMap<>(current.mappings);
+            merged.putAll(checked);
+            return new Transliterator(merged);
+        });
+    }
+
+    static void clearOverlays() {
+        CURRENT.set(new Transliterator(new LinkedHashMap<>()));
+    }
+
+    static boolean isLoaded(final String profile) {
+        return LOADED.get(Arrays.asList(PROFILES).indexOf(profile)) != null;
+    }
+
+    /**
+     * Returns the replacement of a single char or null if the char is kept as is
+     */
+    String replacement(final char ch) {
+        int node = this.overlay.next(CharTrie.ROOT, ch);
+        if (node != CharTrie.NONE && this.overlay.value(node) != CharTrie.NONE) {
+            return this.replacements[this.overlay.value(node)];
+        }
+        Profile profile = profile(ch);
+        return profile == null ? null : profile.replacement(ch);
+    }
+
+    /**
+     * Tests whether text is a proper prefix of a multi char source, in which case a longer match may follow
+     */
+    boolean isSequencePrefix(final CharSequence text) {
+        if (this.overlay.isProperPrefix(text)) {
+            return true;
+        }
+        Profile profile = profile(text.charAt(0));
+        return profile != null && profile.sequencePrefixes.contains(text.toString());
+    }
+
+    boolean startsSequence(final char ch) {
+        int node = this.overlay.next(CharTrie.ROOT, ch);
+        if (node != CharTrie.NONE && this.overlay.firstChild(node) != CharTrie.NONE) {
+            return true;
+        }
+        Profile profile = profile(ch);
+        return profile != null && profile.startsSequence(ch);
+    }
+
+    String transliterate(final String value) {
+        return transliterate(value, null);
+    }
+
+    /**
+     * Transliterates value, building the result in scratch, which should be empty, when one is given
+     *
+     * @return the result, or value itself when it has nothing to transliterate
+     */
+    String transliterate(final String value, final StringBuilder scratch) {
+        StringBuilder builder = null;
+        int copied = 0;
+        int length = value.length();
+        for (int i = 0; i < length; ) {
+            int matched = 1;
+            String replacement = null;
+            int node = this.overlay.longestKeyAt(value, i);
+            if (node != CharTrie.NONE) {
+                matched = this.overlay.depth(node);
+                replacement = this.replacements[this.overlay.value(node)];
+            } else {
+                Profile profile = profile(value.charAt(i));
+                if (profile != null) {
+                    matched = profile.sequenceAt(value, i);
+                    replacement = matched > 0 ? profile.sequences.get(value.substring(i, i + matched))
+                            : profile.replacement(value.charAt(i));
+                    matched = Math.max(matched, 1);
+                }
+            }
+            if (replacement != null) {
+                if (builder == null) {
+                    builder = scratch != null ? scratch : new StringBuilder(length + 16);
+                }
+                builder.append(value, copied, i).append(replacement);
+                copied = i + matched;
+            }
+            i += matched;
+        }
+        if (builder == null) {
+            return value;
+        }
+        return builder.append(value, copied, length).toString();
+    }
+
+    /**
+     * Transliterates the start of text into out. Used by streaming callers which buffer sequence prefixes.
+     *
+     * @return number of chars consumed, at least one
+     */
+    int transliterateFirst(final CharSequence text, final StringBuilder out) {
+        int node = this.overlay.longestKeyAt(text, 0);
+        if (node != CharTrie.NONE) {
+            out.append(this.replacements[this.overlay.value(node)]);
+            return this.overlay.depth(node);
+        }
+        Profile profile = profile(text.charAt(0));
+        if (profile != null) {
+            int matched = profile.sequenceAt(text, 0);
+            if (matched > 0) {
+                out.append(profile.sequences.get(text.subSequence(0, matched).toString()));
+                return matched;
+            }
+            String replacement = profile.replacement(text.charAt(0));
+            if (replacement != null) {
+                out.append(replacement);
+                return 1;
+            }
+        }
+        out.append(text.charAt(0));
+        return 1;
+    }
+
+    private static Profile profile(final char ch) {
+        int index = profileOf(ch);
+        if (index == NO_PROFILE) {
+            return null;
+        }
+        Profile profile = LOADED.get(index);
+        if (profile == null) {
+            // loading twice in a race is harmless, the first one stored wins
+            LOADED.compareAndSet(index, null, new Profile(Table.load("ascii-" + PROFILES[index])));
+            profile = LOADED.get(index);
+        }
+        return profile;
+    }
+
+    // ASCII belongs to the common profile, so plain ASCII text only loads the small common table
+    private static int profileOf(final char ch) {
+        if (ch < 0x80) {
+            return COMMON;
+        }
+        if (Character.isSurrogate(ch)) {
+            return NO_PROFILE;
+        }
+        switch (Character.UnicodeScript.of(ch)) {
+            case COMMON:
+                return COMMON;
+            case LATIN:
+                return 1;
+            case GREEK:
+                return 2;
+            case CYRILLIC:
+                return 3;
+            case ARABIC:
+                return 4;
+            case GEORGIAN:
+                return 5;
+            case MYANMAR:
+                return 6;
+            case DEVANAGARI:
+                return 7;
+            default:
+                return NO_PROFILE;
+        }
+    }
+
+    /**
+     * Compiled table of one script. Single char sources are looked up in sorted parallel arrays and the few multi
+     * char sources are matched longest first.
+     */
+    private static final class Profile {
+
+        private final char[] keys;
+        private final String[] values;
+        private final Map<String, String> sequences;
+        private final Set<String> sequencePrefixes;
+        private final char[] sequenceStarts;
+        private final int maxSequenceLength;
+
+        Profile(final Table table) {
+            Map<Character, String> singles = new TreeMap<>();
+            Map<String, String> sequences = new HashMap<>();
+            // The table used to be applied with one String.replace per source in iteration order. To give the same
+            // results, a source listed twice keeps its first replacement and a multi char source is dropped when one
+            // of its chars was already replaced on its own before it.
+            for (int row = 0; row < table.rows(); row++) {
+                String replacement = table.field(row, 0);
+                for (int field = 1; field < table.fields(row); field++) {
+                    String source = table.field(row, field);
+                    if (source.length() == 1) {
+                        singles.putIfAbsent(source.charAt(0), replacement);
+                    } else if (!source.isEmpty() && source.chars().noneMatch(ch -> singles.containsKey((char) ch))) {
+                        sequences.putIfAbsent(source, replacement);
+                    }
+                }
+            }
+            this.keys = new char[singles.size()];
+            this.values = new String[singles.size()];
+            int i = 0;
+            for (Map.Entry<Character, String> entry : singles.entrySet()) {
+                this.keys[i] = entry.getKey();
+                this.values[i++] = entry.getValue();
+            }
+            this.sequences = sequences;
+            this.sequencePrefixes = new HashSet<>();
+            int maxLength = 0;
+            for (String sequence : sequences.keySet()) {
+                for (int length = 1; length < sequence.length(); length++) {
+                    this.sequencePrefixes.add(sequence.substring(0, length));
+                }
+                maxLength = Math.max(maxLength, sequence.length());
+            }
+            this.maxSequenceLength = maxLength;
+            this.sequenceStarts = new char[sequences.size()];
+            i = 0;
+            for (String sequence : sequences.keySet()) {
+                this.sequenceStarts[i++] = sequence.charAt(0);
+            }
+            Arrays.sort(this.sequenceStarts);
+        }
+
+        String replacement(final char ch) {
+            int index = Arrays.binarySearch(this.keys, ch);
+            return index >= 0 ? this.values[index] : null;
+        }
+
+        boolean startsSequence(final char ch) {
+            return Arrays.binarySearch(this.sequenceStarts, ch) >= 0;
+        }
+
+        /**
+         * Returns the length of the longest multi char source text has at from, or 0
+         */
+        int sequenceAt(final CharSequence text, final int from) {
+            if (!startsSequence(text.charAt(from))) {
+                return 0;
+            }
+            for (int end = Math.min(text.length(), from + this.maxSequenceLength); end > from + 1; end--) {
+                if (this.sequences.containsKey(text.subSequence(from, end).toString())) {
+                    return end - from;
+                }
+            }
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ *
+ *  * The MIT License
+ *  *
+ *  * Copyright 2016 Shekhar Gulati <shekhargulati84@gmail.com>.
+ *  *
+ *  * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  * of this software and associated documentation files (the "Software"), to deal
+ *  * in the Software without restriction, including without limitation the rights
+ *  * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  * copies of the Software, and to permit persons to whom the Software is
+ *  * furnished to do so, subject to the following conditions:
+ *  *
+ *  * The above copyright notice and this permission notice shall be included in
+ *  * all copies or substantial portions of the Software.
+ *  *
+ *  * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  * THE SOFTWARE.
+ *
+ */
+
+
+package strman;
+
+/**
+ * Truncation that scans a value only as far as the limit, plus one word when truncating safely, and writes the
+ * result with its filler into one presized buffer.
+ */
+abstract class Truncation {
+
+    /**
+     * Cuts value to at most length units of measure, including the filler
+     */
+    static String truncate(final String value, final int length, final String filler, final Measure measure) {
+        if (length == 0) {
+            return "";
+        }
+        if (measure.size(value, length) <= length) {
+            return value;
+        }
+        int budget = length - measure.size(filler, Integer.MAX_VALUE);
+        if (budget < 0) {
+            // as when this was a plain substring, a filler longer than length is an out of range cut
+            throw new StringIndexOutOfBoundsException(budget);
+        }
+        int end = 0;
+        for (int used = 0; end < value.length(); ) {
+            int next = measure.next(value, end);
+            used += measure.weight(value, end, next);
+            if (used > budget) {
+                break;
+            }
+            end = next;
+        }
+        end = keepPairs(value, end);
+        return new StringBuilder(end + filler.length()).append(value, 0, end).append(filler).toString();
+    }
+
+    /**
+     * Returns end, or end - 1 when cutting value at end would split a surrogate pair
+     */
+    static int keepPairs(final CharSequence value, final int end) {
+        if (end > 0 && end < value.length() && Character.isHighSurrogate(value.charAt(end - 1))
+                && Character.isLowSurrogate(value.charAt(end))) {
+            return end - 1;
+        }
+        return end;
+    }
+
+    /**
+     * Keeps as many whole words of value as fit into length units of measure with the filler, joined by single
+     * spaces. Words are separated by whitespace as in {@link Strman#words(String)}, and like the joined words the
+     * separators and the filler count towards length.
+     */
+    static String safeTruncate(final String value, final int length, final String filler, final Measure measure) {
+        if (length == 0) {
+            return "";
+        }
+        if (measure.size(value, length) <= length) {
+            return value;
+        }
+        int fillerSize = measure.size(filler, Integer.MAX_VALUE);
+        int words = 0;
+        int chars = 0;
+        int used = 0;
+        for (int start = 0; start < value.length() || words == 0; words++) {
+            int end = wordEnd(value, start);
+            // each kept word so far costs its separator twice, which is how the limit has always been applied
+            int budget = length - used - Math.max(words - 1, 0) - fillerSize - words;
+            int size = 0;
+            for (int i = start; i < end && size <= budget; ) {
+                int next = Math.min(measure.next(value, i), end);
+                size += measure.weight(value, i, next);
+                i = next;
+            }
+            if (size > budget) {
+                break;
+            }
+            used += size;
+            chars += end - start;
+            start = skipWhitespace(value, end);
+        }
+        StringBuilder builder = new StringBuilder(chars + Math.max(words - 1, 0) + filler.length());
+        for (int start = 0, word = 0; word < words; word++) {
+            int end = wordEnd(value, start);
+            if (word > 0) {
+                builder.append(' ');
+            }
+            builder.append(value, start, end);
+            start = skipWhitespace(value, end);
+        }
+        return builder.append(filler).toString();
+    }
+
+    private static int wordEnd(final String value, int index) {
+        while (index < value.length() && !isWhitespace(value.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+
+    private static int skipWhitespace(final String value, int index) {
+        while (index < value.length() && isWhitespace(value.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+
+    // the \s class of java.util.regex
+    private static boolean isWhitespace(final char ch) {
+        return ch == ' ' || ch >= '\t' && ch <= '\r';
+    }
+}
@@ -0,0 +1,461 @@
+/*
+ *
+ *  * The MIT License
+ *  *
+ *  * Copyright 2016 Shekhar Gulati <shekhargulati84@gmail.com>.
+ *  *
+ *  * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  * of this software and associated documentation files (the "Software"), to deal
+ *  * in the Software without restriction, including without limitation the rights
+ *  * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  * copies of the Software, and to permit persons to whom the Software is
+ *  * furnished to do so, subject to the following conditions:
+ *  *
+ *  * The above copyright notice and this permission notice shall be included in
+ *  * all copies or substantial portions of the Software.
+ *  *
+ *  * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  * THE SOFTWARE.
+ *
+ */
+
+
+package strman;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * String manipulation on UTF-8 bytes, for values that arrive and leave as bytes and would otherwise be decoded to a
+ * String and encoded back around a single {@link Strman} call.
+ * <p>
+ * Inputs are the remaining bytes of a buffer, from its position to its limit, and are read without moving its
+ * position. Heap and direct buffers are both supported. Results are written at the position of the caller's out
+ * buffer, which advances past them, and a too small out buffer throws
+ * {@link java.nio.BufferOverflowException}. Methods that decode code points throw an IllegalArgumentException for
+ * malformed UTF-8.
+ */
+public abstract class Utf8Strman {
+
+    private static final byte[] BASE64 =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/".getBytes(StandardCharsets.US_ASCII);
+
+    private Utf8Strman() {
+    }
+
+    /**
+     * Verifies that value is only ASCII, in which case each byte is one char
+     *
+     * @param value The input bytes
+     * @return true if no byte has its high bit set
+     */
+    public static boolean isAscii(final ByteBuffer value) {
+        validate(value);
+        int bits = 0;
+        for (int i = value.position(); i < value.limit(); i++) {
+            bits |= value.get(i);
+        }
+        return bits >= 0;
+    }
+
+    /**
+     * @param value The input bytes
+     * @return true if no byte has its high bit set
+     */
+    public static boolean isAscii(final byte[] value) {
+        validate(value);
+        return isAscii(ByteBuffer.wrap(value));
+    }
+
+    /**
+     * Verifies that value is well formed UTF-8, without overlong forms, surrogates or code points past U+10FFFF
+     *
+     * @param value The input bytes
+     * @return true if value is valid UTF-8
+     */
+    public static boolean isValid(final ByteBuffer value) {
+        validate(value);
+        for (int i = value.position(); i < value.limit(); ) {
+            int length = sequenceLength(value, i);
+            if (length < 0) {
+                return false;
+            }
+            i += length;
+        }
+        return true;
+    }
+
+    /**
+     * @param value The input bytes
+     * @return true if value is valid UTF-8
+     */
+    public static boolean isValid(final byte[] value) {
+        validate(value);
+        return isValid(ByteBuffer.wrap(value));
+    }
+
+    /**
+     * Finds needle in value. UTF-8 never matches in the middle of a character, so the result is the byte offset of
+     * the same match a String search would find. Without case sensitivity only ASCII letters are folded.
+     *
+     * @param value         to search
+     * @param needle        to find
+     * @param caseSensitive true or false
+     * @return offset of needle from the position of value, or -1 if it isn't found
+     */
+    public static int indexOf(final ByteBuffer value, final ByteBuffer needle, final boolean caseSensitive) {
+        validate(value);
+        validate(needle);
+        int length = needle.remaining();
+        if (length == 0) {
+            return 0;
+        }
+        int first = fold(needle.get(needle.position()), caseSensitive);
+        int last = value.limit() - length;
+        for (int i = value.position(); i <= last; i++) {
+            if (fold(value.get(i), caseSensitive) != first) {
+                continue;
+            }
+            int j = 1;
+            while (j < length && fold(value.get(i + j), caseSensitive) == fold(needle.get(needle.position() + j),
+                    caseSensitive)) {
+                j++;
+            }
+            if (j == length) {
+                return i - value.position();
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @param value  to search
+     * @param needle to find
+     * @param caseSensitive true or false
+     * @return offset of needle in value, or -1 if it isn't found
+     */
+    public static int indexOf(final byte[] value, final byte[] needle, final boolean caseSensitive) {
+        validate(value);
+        validate(needle);
+        return indexOf(ByteBuffer.wrap(value), ByteBuffer.wrap(needle), caseSensitive);
+    }
+
+    /**
+     * Verifies that the needle is contained in the value, folding only ASCII letters without case sensitivity
+     *
+     * @param value         to search
+     * @param needle        to find
+     * @param caseSensitive true or false
+     * @return true if found else false.
+     */
+    public static boolean contains(final ByteBuffer value, final ByteBuffer needle, final boolean caseSensitive) {
+        return indexOf(value, needle, caseSensitive) >= 0;
+    }
+
+    /**
+     * @param value         to search
+     * @param needle        to find
+     * @param caseSensitive true or false
+     * @return true if found else false.
+     */
+    public static boolean contains(final byte[] value, final byte[] needle, final boolean caseSensitive) {
+        return indexOf(value, needle, caseSensitive) >= 0;
+    }
+
+    /**
+     * Returns a view of value without leading and trailing bytes up to space, like {@link String#trim()}. The
+     * bytes are shared, not copied.
+     *
+     * @param value The input bytes
+     * @return the trimmed view
+     */
+    public static ByteBuffer trim(final ByteBuffer value) {
+        validate(value);
+        int start = value.position();
+        int end = value.limit();
+        while (start < end && isTrimmed(value.get(start))) {
+            start++;
+        }
+        while (end > start && isTrimmed(value.get(end - 1))) {
+            end--;
+        }
+        ByteBuffer trimmed = value.duplicate();
+        trimmed.limit(end).position(start);
+        return trimmed.slice();
+    }
+
+    /**
+     * Writes value to out trimmed and with runs of whitespace replaced by a single space, like
+     * {@link Strman#collapseWhitespace(String)}
+     *
+     * @param value The input bytes
+     * @param out   where to write the result
+     * @return number of bytes written
+     */
+    public static int collapseWhitespace(final ByteBuffer value, final ByteBuffer out) {
+        ByteBuffer trimmed = trim(value);
+        validate(out);
+        int start = out.position();
+        int limit = trimmed.limit();
+        for (int i = 0; i < limit; ) {
+            byte b = trimmed.get(i);
+            int run = i + 1;
+            while (isWhitespace(b) && run < limit && isWhitespace(trimmed.get(run))) {
+                run++;
+            }
+            out.put(run - i > 1 ? (byte) ' ' : b);
+            i = run;
+        }
+        return out.position() - start;
+    }
+
+    /**
+     * Writes value to out without whitespace, like {@link Strman#removeSpaces(String)}
+     *
+     * @param value The input bytes
+     * @param out   where to write the result
+     * @return number of bytes written
+     */
+    public static int removeSpaces(final ByteBuffer value, final ByteBuffer out) {
+        validate(value);
+        validate(out);
+        int start = out.position();
+        for (int i = value.position(); i < value.limit(); i++) {
+            byte b = value.get(i);
+            if (!isWhitespace(b)) {
+                out.put(b);
+            }
+        }
+        return out.position() - start;
+    }
+
+    /**
+     * Converts the ASCII letters of value to lower case in place. Other bytes, including all of multibyte
+     * characters, are left as they are.
+     *
+     * @param value The bytes to convert
+     */
+    public static void toLowerCaseAscii(final ByteBuffer value) {
+        validate(value);
+        for (int i = value.position(); i < value.limit(); i++) {
+            byte b = value.get(i);
+            if (b >= 'A' && b <= 'Z') {
+                value.put(i, (byte) (b + ('a' - 'A')));
+            }
+        }
+    }
+
+    /**
+     * Converts the ASCII letters of value to upper case in place. Other bytes, including all of multibyte
+     * characters, are left as they are.
+     *
+     * @param value The bytes to convert
+     */
+    public static void toUpperCaseAscii(final ByteBuffer value) {
+        validate(value);
+        for (int i = value.position(); i < value.limit(); i++) {
+            byte b = value.get(i);
+            if (b >= 'a' && b <= 'z') {
+                value.put(i, (byte) (b - ('a' - 'A')));
+            }
+        }
+    }
+
+    /**
+     * Writes value to out with every character that has a named entity replaced by it, like
+     * {@link Strman#htmlEncode(String)}
+     *
+     * @param value The input bytes
+     * @param out   where to write the result
+     * @return number of bytes written
+     */
+    public static int htmlEncode(final ByteBuffer value, final ByteBuffer out) {
+        validate(value);
+        validate(out);
+        int start = out.position();
+        for (int i = value.position(); i < value.limit(); ) {
+            int length = checkedSequenceLength(value, i);
+            int codePoint = codePoint(value, i, length);
+            int row = codePoint <= Character.MAX_VALUE ? HtmlEntities.encodingRow((char) codePoint) : -1;
+            if (row >= 0) {
+                for (int j = 0; j < HtmlEntities.entityLength(row); j++) {
+                    out.put((byte) HtmlEntities.entityCharAt(row, j));
+                }
+            } else {
+                for (int j = 0; j < length; j++) {
+                    out.put(value.get(i + j));
+                }
+            }
+            i += length;
+        }
+        return out.position() - start;
+    }
+
+    /**
+     * Writes the slug of value to out, like {@link Strman#slugify(String)}. ASCII values are widened to chars
+     * directly instead of going through a UTF-8 decoder.
+     *
+     * @param value The input bytes
+     * @param out   where to write the result
+     * @return number of bytes written
+     */
+    public static int slugify(final ByteBuffer value, final ByteBuffer out) {
+        validate(out);
+        String slug = Strman.slugify(decode(value));
+        int start = out.position();
+        for (int i = 0; i < slug.length(); ) {
+            int codePoint = slug.codePointAt(i);
+            putCodePoint(out, codePoint);
+            i += Character.charCount(codePoint);
+        }
+        return out.position() - start;
+    }
+
+    /**
+     * Writes the Base64 encoding of value to out, like {@link Strman#base64Encode(String)}
+     *
+     * @param value The bytes to encode
+     * @param out   where to write the encoding
+     * @return number of bytes written
+     */
+    public static int base64Encode(final ByteBuffer value, final ByteBuffer out) {
+        validate(value);
+        validate(out);
+        int start = out.position();
+        int i = value.position();
+        for (; i + 2 < value.limit(); i += 3) {
+            int bits = (value.get(i) & 0xFF) << 16 | (value.get(i + 1) & 0xFF) << 8 | value.get(i + 2) & 0xFF;
+            out.put(BASE64[bits >>> 18]).put(BASE64[bits >>> 12 & 63]).put(BASE64[bits >>> 6 & 63])
+                    .put(BASE64[bits & 63]);
+        }
+        if (i < value.limit()) {
+            int bits = (value.get(i) & 0xFF) << 16;
+            boolean two = i + 1 < value.limit();
+            if (two) {
+                bits |= (value.get(i + 1) & 0xFF) << 8;
+            }
+            out.put(BASE64[bits >>> 18]).put(BASE64[bits >>> 12 & 63]).put(two ? BASE64[bits >>> 6 & 63] : (byte) '=')
+                    .put((byte) '=');
+        }
+        return out.position() - start;
+    }
+
+    /**
+     * Decodes value to a String, widening ASCII bytes directly
+     *
+     * @param value The input bytes
+     * @return the decoded String
+     */
+    public static String decode(final ByteBuffer value) {
+        validate(value);
+        if (isAscii(value)) {
+            char[] chars = new char[value.remaining()];
+            for (int i = 0; i < chars.length; i++) {
+                chars[i] = (char) value.get(value.position() + i);
+            }
+            return new String(chars);
+        }
+        if (!isValid(value)) {
+            throw new IllegalArgumentException("Malformed UTF-8");
+        }
+        return StandardCharsets.UTF_8.decode(value.duplicate()).toString();
+    }
+
+    // returns the length of the UTF-8 sequence at index, or -1 if it is malformed
+    private static int sequenceLength(final ByteBuffer value, final int index) {
+        int b0 = value.get(index) & 0xFF;
+        if (b0 < 0x80) {
+            return 1;
+        }
+        int remaining = value.limit() - index;
+        if (b0 < 0xC2) {
+            return -1;
+        }
+        if (b0 < 0xE0) {
+            return remaining > 1 && isContinuation(value.get(index + 1)) ? 2 : -1;
+        }
+        if (b0 < 0xF0) {
+            if (remaining < 3 || !isContinuation(value.get(index + 1)) || !isContinuation(value.get(index + 2))) {
+                return -1;
+            }
+            int b1 = value.get(index + 1) & 0xFF;
+            // overlong forms below U+0800 and the surrogates
+            return b0 == 0xE0 && b1 < 0xA0 || b0 == 0xED && b1 >= 0xA0 ? -1 : 3;
+        }
+        if (b0 < 0xF5) {
+            if (remaining < 4 || !isContinuation(value.get(index + 1)) || !isContinuation(value.get(index + 2))
+                    || !isContinuation(value.get(index + 3))) {
+                return -1;
+            }
+            int b1 = value.get(index + 1) & 0xFF;
+            // overlong forms below U+10000 and code points past U+10FFFF
+            return b0 == 0xF0 && b1 < 0x90 || b0 == 0xF4 && b1 >= 0x90 ? -1 : 4;
+        }
+        return -1;
+    }
+
+    private static int checkedSequenceLength(final ByteBuffer value, final int index) {
+        int length = sequenceLength(value, index);
+        if (length < 0) {
+            throw new IllegalArgumentException("Malformed UTF-8 at offset " + (index - value.position()));
+        }
+        return length;
+    }
+
+    private static int codePoint(final ByteBuffer value, final int index, final int length) {
+        int b0 = value.get(index) & 0xFF;
+        switch (length) {
+            case 1:
+                return b0;
+            case 2:
+                return (b0 & 0x1F) << 6 | value.get(index + 1) & 0x3F;
+            case 3:
+                return (b0 & 0x0F) << 12 | (value.get(index + 1) & 0x3F) << 6 | value.get(index + 2) & 0x3F;
+            default:
+                return (b0 & 0x07) << 18 | (value.get(index + 1) & 0x3F) << 12 | (value.get(index + 2) & 0x3F) << 6
+                        | value.get(index + 3) & 0x3F;
+        }
+    }
+
+    private static void putCodePoint(final ByteBuffer out, final int codePoint) {
+        if (codePoint < 0x80) {
+            out.put((byte) codePoint);
+        } else if (codePoint < 0x800) {
+            out.put((byte) (0xC0 | codePoint >>> 6)).put((byte) (0x80 | codePoint & 0x3F));
+        } else if (codePoint < 0x10000) {
+            out.put((byte) (0xE0 | codePoint >>> 12)).put((byte) (0x80 | codePoint >>> 6 & 0x3F))
+                    .put((byte) (0x80 | codePoint & 0x3F));
+        } else {
+            out.put((byte) (0xF0 | codePoint >>> 18)).put((byte) (0x80 | codePoint >>> 12 & 0x3F))
+                    .put((byte) (0x80 | codePoint >>> 6 & 0x3F)).put((byte) (0x80 | codePoint & 0x3F));
+        }
+    }
+
+    private static boolean isContinuation(final byte b) {
+        return (b & 0xC0) == 0x80;
+    }
+
+    private static int fold(final byte b, final boolean caseSensitive) {
+        return !caseSensitive && b >= 'A' && b <= 'Z' ? b + ('a' - 'A') : b;
+    }
+
+    private static boolean isTrimmed(final byte b) {
+        return b >= 0 && b <= ' ';
+    }
+
+    // the \s class of java.util.regex
+    private static boolean isWhitespace(final byte b) {
+        return b == ' ' || b >= '\t' && b <= '\r';
+    }
+
+    private static void validate(final Object value) {
+        if (value == null) {
+            throw new IllegalArgumentException("'value' should be not null.");
+        }
+    }
+}
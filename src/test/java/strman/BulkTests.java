@@ -0,0 +1,112 @@
+/*
+ *
+ *  * The MIT License
+ *  *
+ *  * Copyright 2016 Shekhar Gulati <shekhargulati84@gmail.com>.
+ *  *
+ *  * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  * of this software and associated documentation files (the "Software"), to deal
+ *  * in the Software without restriction, including without limitation the rights
+ *  * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  * copies of the Software, and to permit persons to whom the Software is
+ *  * furnished to do so, subject to the following conditions:
+ *  *
+ *  * The above copyright notice and this permission notice shall be included in
+ *  * all copies or substantial portions of the Software.
+ *  *
+ *  * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  * THE SOFTWARE.
+ *
+ */
+
+
+package strman;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.collection.IsArrayContainingInOrder.arrayContaining;
+import static org.junit.Assert.*;
+import static strman.Strman.bulk;
+
+public class BulkTests {
+
+    @Test
+    public void slugify_shouldSlugifyEveryElement() throws Exception {
+        String[] input = {"foo bar", "Foo & Bar", "fóõ bár"};
+        assertThat(bulk(input).slugify(), arrayContaining("foo-bar", "foo-and-bar", "foo-bar"));
+        assertThat(input[0], equalTo("foo bar"));
+    }
+
+    @Test
+    public void toSnakeCase_shouldMatchStrmanInParallel() throws Exception {
+        String[] input = new String[1000];
+        for (int i = 0; i < input.length; i++) {
+            input[i] = "fooBar" + i + " baz Qux";
+        }
+        String[] expected = Arrays.stream(input).map(Strman::toSnakeCase).toArray(String[]::new);
+        assertArrayEquals(expected, bulk(input).threshold(16).toSnakeCase());
+    }
+
+    @Test
+    public void htmlEncode_shouldEncodeEveryElementInPlace() throws Exception {
+        String[] input = {"á", "Шfoo", "┐"};
+        String[] output = bulk(input).inPlace().htmlEncode();
+        assertThat(output, sameInstance(input));
+        assertThat(output, arrayContaining("&aacute;", "&SHcy;foo", "&boxdl;"));
+    }
+
+    @Test
+    public void transliterate_shouldTransliterateEveryElement() throws Exception {
+        assertThat(bulk(new String[]{"fóõ bár", "déjà vu"}).transliterate(), arrayContaining("foo bar", "deja vu"));
+    }
+
+    @Test
+    public void transliterate_shouldMatchStrmanWhenReusingScratchBuffer() throws Exception {
+        String[] input = new String[64];
+        for (int i = 0; i < input.length; i++) {
+            input[i] = i % 3 == 0 ? "plain " + i : "d\u00E9j\u00E0 " + i + " \u00FC";
+        }
+        String[] output = bulk(input).threshold(4).transliterate();
+        for (int i = 0; i < input.length; i++) {
+            assertThat(output[i], equalTo(Strman.transliterate(input[i])));
+        }
+    }
+
+    @Test
+    public void map_shouldApplyFunctionToEveryElement() throws Exception {
+        assertThat(bulk(new String[]{"a", "b"}).map(Strman::reverse), arrayContaining("a", "b"));
+        assertThat(bulk(new String[]{"ab", "cd"}).threshold(1).map(Strman::reverse), arrayContaining("ba", "dc"));
+    }
+
+    @Test
+    public void removeEmptyStrings_shouldReturnArrayWithoutEmptyStrings() throws Exception {
+        String[] input = {"aa", "", "   ", null, "bb", "\t"};
+        assertThat(bulk(input).removeEmptyStrings(), arrayContaining("aa", "bb"));
+        assertThat(input.length, equalTo(6));
+    }
+
+    @Test
+    public void compactEmptyStrings_shouldCompactArrayInPlace() throws Exception {
+        String[] input = {"aa", "", "   ", null, "bb", "cc"};
+        assertThat(bulk(input).compactEmptyStrings(), equalTo(3));
+        assertThat(input, arrayContaining("aa", "bb", "cc", null, null, null));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void bulk_shouldThrowIllegalArgumentExceptionWhenArrayIsNull() throws Exception {
+        bulk(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void threshold_shouldThrowIllegalArgumentExceptionWhenThresholdIsNotPositive() throws Exception {
+        bulk(new String[0]).threshold(0);
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ *
+ *  * The MIT License
+ *  *
+ *  * Copyright 2016 Shekhar Gulati <shekhargulati84@gmail.com>.
+ *  *
+ *  * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  * of this software and associated documentation files (the "Software"), to deal
+ *  * in the Software without restriction, including without limitation the rights
+ *  * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  * copies of the Software, and to permit persons to whom the Software is
+ *  * furnished to do so, subject to the following conditions:
+ *  *
+ *  * The above copyright notice and this permission notice shall be included in
+ *  * all copies or substantial portions of the Software.
+ *  *
+ *  * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  * THE SOFTWARE.
+ *
+ */
+
+
+package strman;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.*;
+
+public class CharHistogramTests {
+
+    @Test
+    public void ofChars_shouldCountEveryChar() throws Exception {
+        CharHistogram histogram = CharHistogram.ofChars("-----abbcccCCCBBA-----ЖЖ");
+        assertThat(histogram.count('-'), equalTo(10L));
+        assertThat(histogram.count('c'), equalTo(3L));
+        assertThat(histogram.count('Ж'), equalTo(2L));
+        assertThat(histogram.count('z'), equalTo(0L));
+        assertThat(histogram.count(0x1F600), equalTo(0L));
+        assertThat(histogram.total(), equalTo(24L));
+        assertThat(histogram.distinct(), equalTo(8));
+    }
+
+    @Test
+    public void ofCodePoints_shouldCountSurrogatePairsAsOneCodePoint() throws Exception {
+        CharHistogram histogram = CharHistogram.ofCodePoints("a😀😀b");
+        assertThat(histogram.count(0x1F600), equalTo(2L));
+        assertThat(histogram.count(0xD83D), equalTo(0L));
+        assertThat(histogram.total(), equalTo(4L));
+        assertThat(histogram.distinct(), equalTo(3));
+    }
+
+    @Test
+    public void add_shouldGrowSparseTable() throws Exception {
+        CharHistogram histogram = new CharHistogram();
+        for (int codePoint = 0x400; codePoint < 0x1400; codePoint++) {
+            histogram.add(codePoint, codePoint);
+        }
+        assertThat(histogram.distinct(), equalTo(0x1000));
+        for (int codePoint = 0x400; codePoint < 0x1400; codePoint++) {
+            assertThat(histogram.count(codePoint), equalTo((long) codePoint));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void add_shouldThrowIllegalArgumentExceptionForInvalidCodePoint() throws Exception {
+        new CharHistogram().add(-2);
+    }
+
+    @Test
+    public void merge_shouldAddCountsOfBothHistograms() throws Exception {
+        CharHistogram histogram = CharHistogram.ofChars("aabЖ").merge(CharHistogram.ofChars("abЖЗ"));
+        assertThat(histogram.count('a'), equalTo(3L));
+        assertThat(histogram.count('b'), equalTo(2L));
+        assertThat(histogram.count('Ж'), equalTo(2L));
+        assertThat(histogram.count('З'), equalTo(1L));
+        assertThat(histogram.total(), equalTo(8L));
+    }
+
+    @Test
+    public void topN_shouldReturnMostFrequentCharsFirst() throws Exception {
+        CharHistogram histogram = CharHistogram.ofChars("abbcccddddЖЖЖЖЖ");
+        assertArrayEquals(new int[]{'Ж', 'd', 'c'}, histogram.topN(3));
+        assertArrayEquals(new int[]{'Ж', 'd', 'c', 'b', 'a'}, histogram.topN(10));
+        assertArrayEquals(new int[]{'a', 'b'}, CharHistogram.ofChars("baba").topN(2));
+        assertThat(histogram.topN(0).length, equalTo(0));
+    }
+
+    @Test
+    public void toMap_shouldReturnCountOfEachChar() throws Exception {
+        Map<Character, Long> expected = new HashMap<>();
+        expected.put('a', 2L);
+        expected.put('Ж', 1L);
+        assertThat(CharHistogram.ofChars("aЖa").toMap(), equalTo(expected));
+    }
+}
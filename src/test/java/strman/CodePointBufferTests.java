@@ -0,0 +1,94 @@
+/*
+ *
+ *  * The MIT License
+ *  *
+ *  * Copyright 2016 Shekhar Gulati <shekhargulati84@gmail.com>.
+ *  *
+ *  * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  * of this software and associated documentation files (the "Software"), to deal
+ *  * in the Software without restriction, including without limitation the rights
+ *  * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  * copies of the Software, and to permit persons to whom the Software is
+ *  * furnished to do so, subject to the following conditions:
+ *  *
+ *  * The above copyright notice and this permission notice shall be included in
+ *  * all copies or substantial portions of the Software.
+ *  *
+ *  * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  * THE SOFTWARE.
+ *
+ */
+
+
+package strman;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.*;
+
+public class CodePointBufferTests {
+
+    @Test
+    public void load_shouldDecodeCodePoints() throws Exception {
+        CodePointBuffer buffer = new CodePointBuffer().load("a😀b");
+        assertThat(buffer.length(), equalTo(3));
+        assertThat(buffer.get(0), equalTo((int) 'a'));
+        assertThat(buffer.get(1), equalTo(0x1F600));
+        assertThat(buffer.get(2), equalTo((int) 'b'));
+        assertThat(buffer.toString(), equalTo("a😀b"));
+    }
+
+    @Test
+    public void load_shouldKeepUnpairedSurrogates() throws Exception {
+        CodePointBuffer buffer = new CodePointBuffer().load("\uDE00a\uD83D");
+        assertThat(buffer.length(), equalTo(3));
+        assertThat(buffer.get(0), equalTo(0xDE00));
+        assertThat(buffer.get(2), equalTo(0xD83D));
+    }
+
+    @Test
+    public void load_shouldReuseTheArray() throws Exception {
+        CodePointBuffer buffer = new CodePointBuffer(0).load("a longer value");
+        int[] array = buffer.array();
+        buffer.load("short");
+        assertThat(buffer.array(), sameInstance(array));
+        assertThat(buffer.length(), equalTo(5));
+        assertThat(buffer.toString(), equalTo("short"));
+        assertThat(buffer.load("").length(), equalTo(0));
+    }
+
+    @Test
+    public void reverse_shouldReverseCodePoints() throws Exception {
+        CodePointBuffer buffer = new CodePointBuffer().load("ab😀c").reverse();
+        assertThat(buffer.toString(), equalTo("c😀ba"));
+        assertThat(buffer.appendTo(new StringBuilder(">")).toString(), equalTo(">c😀ba"));
+    }
+
+    @Test
+    public void set_shouldReplaceCodePoint() throws Exception {
+        CodePointBuffer buffer = new CodePointBuffer().load("abc").set(1, 0x10400);
+        assertThat(buffer.toString(), equalTo("a𐐀c"));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void get_shouldThrowIndexOutOfBoundsExceptionPastLength() throws Exception {
+        new CodePointBuffer().load("abc").get(3);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void set_shouldThrowIllegalArgumentExceptionForInvalidCodePoint() throws Exception {
+        new CodePointBuffer().load("abc").set(0, -1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void load_shouldThrowIllegalArgumentExceptionForNullValue() throws Exception {
+        new CodePointBuffer().load(null);
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ *
+ *  * The MIT License
+ *  *
+ *  * Copyright 2016 Shekhar Gulati <shekhargulati84@gmail.com>.
+ *  *
+ *  * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  * of this software and associated documentation files (the "Software"), to deal
+ *  * in the Software without restriction, including without limitation the rights
+ *  * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  * copies of the Software, and to permit persons to whom the Software is
+ *  * furnished to do so, subject to the following conditions:
+ *  *
+ *  * The above copyright notice and this permission notice shall be included in
+ *  * all copies or substantial portions of the Software.
+ *  *
+ *  * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  * THE SOFTWARE.
+ *
+ */
+
+
+package strman;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.*;
+
+public class ConcatenationTests {
+
+    @Test
+    public void append_shouldWriteNullPartsAsNull() throws Exception {
+        assertThat(Concatenation.append("foo", new String[]{"bar", null}), equalTo("foobarnull"));
+        assertThat(Concatenation.prepend("foo", new String[]{null, "bar"}), equalTo("nullbarfoo"));
+    }
+
+    @Test
+    public void join_shouldPutSeparatorBetweenElements() throws Exception {
+        assertThat(Concatenation.join(new String[]{"a", null, "c"}, ", "), equalTo("a, null, c"));
+        assertThat(Concatenation.join(new String[]{"a"}, ", "), equalTo("a"));
+        assertThat(Concatenation.join(new String[0], ", "), equalTo(""));
+    }
+
+    @Test
+    public void repeat_shouldRepeatByDoubling() throws Exception {
+        for (int count = 0; count < 40; count++) {
+            StringBuilder expected = new StringBuilder();
+            for (int i = 0; i < count; i++) {
+                expected.append("abc");
+            }
+            assertThat(Concatenation.repeat("abc", count), equalTo(expected.toString()));
+        }
+        assertThat(Concatenation.repeat("", 5), equalTo(""));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void repeat_shouldThrowIllegalArgumentExceptionWhenCountIsNegative() throws Exception {
+        Concatenation.repeat("a", -1);
+    }
+
+    @Test
+    public void pad_shouldPadWithCachedAndLongPads() throws Exception {
+        assertThat(Concatenation.pad("1", "0", 3, true), equalTo("0001"));
+        assertThat(Concatenation.pad("1", " ", 3, false), equalTo("1   "));
+        assertThat(Concatenation.pad("1", "ab", 2, true), equalTo("abab1"));
+        assertThat(Concatenation.pad("1", "Ж", 2, false), equalTo("1ЖЖ"));
+        assertThat(Concatenation.pad("1", "-", 100, true).length(), equalTo(101));
+        assertThat(Concatenation.pad("1", "-", 0, true), equalTo("1"));
+    }
+}
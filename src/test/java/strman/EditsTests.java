@@ -0,0 +1,113 @@
+/*
+ *
+ *  * The MIT License
+ *  *
+ *  * Copyright 2016 Shekhar Gulati <shekhargulati84@gmail.com>.
+ *  *
+ *  * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  * of this software and associated documentation files (the "Software"), to deal
+ *  * in the Software without restriction, including without limitation the rights
+ *  * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  * copies of the Software, and to permit persons to whom the Software is
+ *  * furnished to do so, subject to the following conditions:
+ *  *
+ *  * The above copyright notice and this permission notice shall be included in
+ *  * all copies or substantial portions of the Software.
+ *  *
+ *  * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  * THE SOFTWARE.
+ *
+ */
+
+
+package strman;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.*;
+
+public class EditsTests {
+
+    @Test
+    public void applyTo_shouldApplyEditsAtOriginalOffsets() throws Exception {
+        String value = "The quick brown fox";
+        Edits edits = new Edits()
+                .insert(10, "<b>")
+                .insert(15, "</b>")
+                .replace(4, 5, "slow")
+                .delete(0, 4);
+        assertThat(edits.applyTo(value), equalTo("slow <b>brown</b> fox"));
+        assertThat(edits.size(), equalTo(4));
+    }
+
+    @Test
+    public void applyTo_shouldKeepOrderOfInsertsAtSameOffset() throws Exception {
+        Edits edits = new Edits().insert(3, "b").insert(0, "<").insert(3, "c").insert(3, ">");
+        assertThat(edits.applyTo("foo"), equalTo("<foobc>"));
+    }
+
+    @Test
+    public void applyTo_shouldAllowAdjacentEdits() throws Exception {
+        Edits edits = new Edits().replace(0, 3, "bar").insert(3, "-").replace(3, 3, "foo");
+        assertThat(edits.applyTo("foobar"), equalTo("bar-foo"));
+    }
+
+    @Test
+    public void applyTo_shouldInsertBeforeReplacementAtSameOffsetWhateverTheOrder() throws Exception {
+        assertThat(new Edits().replace(2, 3, "x").insert(2, "y").applyTo("foobar"), equalTo("foyxr"));
+        assertThat(new Edits().insert(2, "y").replace(2, 3, "x").applyTo("foobar"), equalTo("foyxr"));
+    }
+
+    @Test
+    public void applyTo_shouldInsertAfterDeletionEndingAtSameOffsetWhateverTheOrder() throws Exception {
+        assertThat(new Edits().delete(2, 3).insert(5, "y").applyTo("foobar"), equalTo("foyr"));
+        assertThat(new Edits().insert(5, "y").delete(2, 3).applyTo("foobar"), equalTo("foyr"));
+    }
+
+    @Test
+    public void applyTo_shouldReturnValueWhenThereAreNoEdits() throws Exception {
+        assertThat(new Edits().applyTo(new StringBuilder("foo")), equalTo("foo"));
+    }
+
+    @Test
+    public void clear_shouldRemoveAllEdits() throws Exception {
+        Edits edits = new Edits().insert(0, "x");
+        assertThat(edits.clear().insert(3, "!").applyTo("foo"), equalTo("foo!"));
+    }
+
+    @Test
+    public void applyTo_shouldGrowForManyEdits() throws Exception {
+        String value = Strman.repeat("ab", 100);
+        Edits edits = new Edits();
+        for (int i = 0; i < value.length(); i += 2) {
+            edits.replace(i, 1, "[A]");
+        }
+        assertThat(edits.applyTo(value), equalTo(value.replace("a", "[A]")));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void applyTo_shouldThrowIllegalArgumentExceptionWhenEditsOverlap() throws Exception {
+        new Edits().replace(0, 3, "x").replace(2, 2, "y").applyTo("foobar");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void applyTo_shouldThrowIllegalArgumentExceptionWhenInsertIsInsideDeletion() throws Exception {
+        new Edits().delete(1, 3).insert(2, "y").applyTo("foobar");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void applyTo_shouldThrowIllegalArgumentExceptionWhenEditIsOutOfBounds() throws Exception {
+        new Edits().delete(4, 3).applyTo("foobar");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void insert_shouldThrowIllegalArgumentExceptionWhenOffsetIsNegative() throws Exception {
+        new Edits().insert(-1, "x");
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ *
+ *  * The MIT License
+ *  *
+ *  * Copyright 2016 Shekhar Gulati <shekhargulati84@gmail.com>.
+ *  *
+ *  * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  * of this software and associated documentation files (the "Software"), to deal
+ *  * in the Software without restriction, including without limitation the rights
+ *  * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  * copies of the Software, and to permit persons to whom the Software is
+ *  * furnished to do so, subject to the following conditions:
+ *  *
+ *  * The above copyright notice and this permission notice shall be included in
+ *  * all copies or substantial portions of the Software.
+ *  *
+ *  * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  * THE SOFTWARE.
+ *
+ */
+
+
+package strman;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.collection.IsArrayContainingInOrder.arrayContaining;
+import static org.hamcrest.collection.IsArrayWithSize.emptyArray;
+import static org.junit.Assert.*;
+
+public class ExtractorTests {
+
+    @Test
+    public void extract_shouldReturnContentsBetweenDelimiters() throws Exception {
+        Extractor extractor = Extractor.compile("<b>", "</b>");
+        assertThat(extractor.extract("a <b>bold</b> and <b>more</b>"), arrayContaining("bold", "more"));
+        assertThat(extractor.extract("<b></b>"), arrayContaining(""));
+        assertThat(extractor.extract("no tags"), emptyArray());
+    }
+
+    @Test
+    public void extract_shouldNotNestDelimiters() throws Exception {
+        assertThat(Extractor.compile("(", ")").extract("f(a(b)c)"), arrayContaining("a(b"));
+    }
+
+    @Test
+    public void extract_shouldSkipStartWithoutEnd() throws Exception {
+        assertThat(Extractor.compile("[", "]").extract("[abc][de"), arrayContaining("abc"));
+        assertThat(Extractor.compile("{{", "}}").extract("{{a}} {{b"), arrayContaining("a"));
+    }
+
+    @Test
+    public void offsets_shouldReturnStartAndEndOfContents() throws Exception {
+        assertThat(Extractor.compile("[", "]").offsets("[abc]x[d]"), equalTo(new int[]{1, 4, 7, 8}));
+    }
+
+    @Test
+    public void views_shouldReturnContentsWithoutCopying() throws Exception {
+        CharSequence[] views = Extractor.compile("'", "'").views("say 'hi' and 'bye'");
+        assertThat(views.length, equalTo(2));
+        assertThat(views[0].toString(), equalTo("hi"));
+        assertThat(views[1].length(), equalTo(3));
+        assertThat(views[1].charAt(0), equalTo('b'));
+    }
+
+    @Test
+    public void forEach_shouldMatchSeveralPairsInOnePass() throws Exception {
+        Map<String, String> pairs = new LinkedHashMap<>();
+        pairs.put("<b>", "</b>");
+        pairs.put("<i>", "</i>");
+        pairs.put("[", "]");
+        Extractor extractor = Extractor.compile(pairs);
+        String value = "<i>x</i> [y] <b>z [w]</b> <i>open";
+        List<String> found = new ArrayList<>();
+        int count = extractor.forEach(value, (pair, start, end) -> found.add(pair + ":" + value.substring(start, end)));
+        assertThat(count, equalTo(3));
+        assertThat(found.toString(), equalTo("[1:x, 2:y, 0:z [w]]"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void compile_shouldThrowIllegalArgumentExceptionWhenDelimiterIsEmpty() throws Exception {
+        Extractor.compile("", "]");
+    }
+}
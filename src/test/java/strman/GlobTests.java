@@ -0,0 +1,114 @@
+/*
+ *
+ *  * The MIT License
+ *  *
+ *  * Copyright 2016 Shekhar Gulati <shekhargulati84@gmail.com>.
+ *  *
+ *  * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  * of this software and associated documentation files (the "Software"), to deal
+ *  * in the Software without restriction, including without limitation the rights
+ *  * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  * copies of the Software, and to permit persons to whom the Software is
+ *  * furnished to do so, subject to the following conditions:
+ *  *
+ *  * The above copyright notice and this permission notice shall be included in
+ *  * all copies or substantial portions of the Software.
+ *  *
+ *  * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  * THE SOFTWARE.
+ *
+ */
+
+
+package strman;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.*;
+
+public class GlobTests {
+
+    @Test
+    public void matches_shouldMatchStarsAndQuestionMarks() throws Exception {
+        Glob glob = Glob.compile("user:*:?d");
+        assertTrue(glob.matches("user:42:id"));
+        assertTrue(glob.matches("user::xd"));
+        assertFalse(glob.matches("user:42:d"));
+        assertFalse(glob.matches("admin:42:id"));
+        assertTrue(Glob.compile("*").matches(""));
+        assertTrue(Glob.compile("").matches(""));
+        assertFalse(Glob.compile("").matches("a"));
+    }
+
+    @Test
+    public void matches_shouldMatchCharacterClasses() throws Exception {
+        assertTrue(Glob.compile("file[0-9].txt").matches("file7.txt"));
+        assertFalse(Glob.compile("file[0-9].txt").matches("fileA.txt"));
+        assertTrue(Glob.compile("file[!0-9].txt").matches("fileA.txt"));
+        assertTrue(Glob.compile("[]a]*").matches("]b"));
+        assertTrue(Glob.compile("[a\\-z]").matches("-"));
+        assertFalse(Glob.compile("[a\\-z]").matches("b"));
+    }
+
+    @Test
+    public void matches_shouldTreatEscapedCharsLiterally() throws Exception {
+        assertTrue(Glob.compile("what\\?").matches("what?"));
+        assertFalse(Glob.compile("what\\?").matches("whats"));
+        assertTrue(Glob.compile("\\*\\[x]").matches("*[x]"));
+    }
+
+    @Test
+    public void matches_shouldIgnoreCaseWhenNotCaseSensitive() throws Exception {
+        assertTrue(Glob.compile("*.JPG", false).matches("photo.jpg"));
+        assertTrue(Glob.compile("[a-c]*", false).matches("Bob"));
+        assertFalse(Glob.compile("*.JPG").matches("photo.jpg"));
+    }
+
+    @Test
+    public void matches_shouldNotBacktrackOnManyStars() throws Exception {
+        StringBuilder value = new StringBuilder();
+        for (int i = 0; i < 100_000; i++) {
+            value.append('a');
+        }
+        assertFalse(Glob.compile("*a*a*a*a*a*b").matches(value));
+    }
+
+    @Test
+    public void toRegex_shouldEscapeLiteralChars() throws Exception {
+        assertThat(Glob.compile("a.b*[!x-z]?").toRegex(), equalTo("a\\.b.*[^x-z]."));
+    }
+
+    @Test
+    public void matches_shouldAgreeWithRegexFallback() throws Exception {
+        Random random = new Random(3);
+        String patternChars = "ab*?.[";
+        for (int round = 0; round < 2000; round++) {
+            StringBuilder pattern = new StringBuilder();
+            for (int i = random.nextInt(6); i > 0; i--) {
+                char ch = patternChars.charAt(random.nextInt(patternChars.length()));
+                pattern.append(ch == '[' ? "[!a]" : String.valueOf(ch));
+            }
+            StringBuilder value = new StringBuilder();
+            for (int i = random.nextInt(8); i > 0; i--) {
+                value.append("abAB.".charAt(random.nextInt(5)));
+            }
+            boolean caseSensitive = random.nextBoolean();
+            Glob glob = Glob.compile(pattern.toString(), caseSensitive);
+            assertThat(pattern + " " + value, glob.matches(value),
+                    equalTo(glob.toPattern().matcher(value).matches()));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void compile_shouldThrowIllegalArgumentExceptionWhenClassIsNotTerminated() throws Exception {
+        Glob.compile("file[0-9");
+    }
+}
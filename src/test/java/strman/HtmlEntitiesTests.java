@@ -0,0 +1,80 @@
+/*
+ *
+ *  * The MIT License
+ *  *
+ *  * Copyright 2016 Shekhar Gulati <shekhargulati84@gmail.com>.
+ *  *
+ *  * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  * of this software and associated documentation files (the "Software"), to deal
+ *  * in the Software without restriction, including without limitation the rights
+ *  * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  * copies of the Software, and to permit persons to whom the Software is
+ *  * furnished to do so, subject to the following conditions:
+ *  *
+ *  * The above copyright notice and this permission notice shall be included in
+ *  * all copies or substantial portions of the Software.
+ *  *
+ *  * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  * THE SOFTWARE.
+ *
+ */
+
+
+package strman;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.*;
+
+public class HtmlEntitiesTests {
+
+    @Test
+    public void find_shouldFindEveryEntityOfTable() throws Exception {
+        List<String> lines = Files.readAllLines(Paths.get("src/main/tables/html-entities.txt"), StandardCharsets.UTF_8);
+        int entities = 0;
+        for (String line : lines) {
+            if (line.startsWith("#")) {
+                continue;
+            }
+            String[] fields = line.split("\t");
+            String entity = unescape(fields[0]);
+            assertThat(entity, HtmlEntities.find(entity, 0, entity.length()) >= 0, equalTo(true));
+            assertThat(HtmlEntities.decode(entity, new StringBuilder()).toString(), equalTo(unescape(fields[1])));
+            entities++;
+        }
+        assertThat(entities > 2000, equalTo(true));
+    }
+
+    @Test
+    public void find_shouldLookUpRangeOfText() throws Exception {
+        String text = "x &hearts; y";
+        assertThat(HtmlEntities.find(text, 2, 10) >= 0, equalTo(true));
+        assertThat(HtmlEntities.find(text, 2, 9), equalTo(-1));
+        assertThat(HtmlEntities.find("&nosuchentity;", 0, 14), equalTo(-1));
+        assertThat(HtmlEntities.find("", 0, 0), equalTo(-1));
+    }
+
+    private static String unescape(final String field) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < field.length(); i++) {
+            if (field.startsWith("\\u", i)) {
+                builder.append((char) Integer.parseInt(field.substring(i + 2, i + 6), 16));
+                i += 5;
+            } else {
+                builder.append(field.charAt(i));
+            }
+        }
+        return builder.toString();
+    }
+}
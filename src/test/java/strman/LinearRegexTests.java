@@ -0,0 +1,165 @@
+/*
+ *
+ *  * The MIT License
+ *  *
+ *  * Copyright 2016 Shekhar Gulati <shekhargulati84@gmail.com>.
+ *  *
+ *  * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  * of this software and associated documentation files (the "Software"), to deal
+ *  * in the Software without restriction, including without limitation the rights
+ *  * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  * copies of the Software, and to permit persons to whom the Software is
+ *  * furnished to do so, subject to the following conditions:
+ *  *
+ *  * The above copyright notice and this permission notice shall be included in
+ *  * all copies or substantial portions of the Software.
+ *  *
+ *  * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  * THE SOFTWARE.
+ *
+ */
+
+
+package strman;
+
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.collection.IsArrayContainingInOrder.arrayContaining;
+import static org.junit.Assert.*;
+
+public class LinearRegexTests {
+
+    private static final String[] ATOMS = {"a", "b", " ", "\\s", "\\w", "\\W", "[ab]", "[^a]", ".", "\\d", "1",
+        "[a-b1]", "\\p{Upper}", "A", "-", "_", "\\S", "[\\s_-]"};
+    private static final String[] ASSERTIONS = {"(?=a)", "(?!b)", "(?<=[a-z])", "(?<!\\s)", "(?=\\p{Upper})", "^",
+        "$", "(?<=ab)"};
+    private static final String[] QUANTIFIERS = {"", "", "", "*", "+", "?", "*?", "+?", "??", "{2}", "{1,2}",
+        "{0,2}", "{2,}", "{1,2}?"};
+
+    private final Random random = new Random(5);
+
+    @Test
+    public void compile_shouldAcceptPatternsUsedByStrman() throws Exception {
+        String[] patterns = {"\\s\\s+", "^\\s+", "[^\\w]+", "\\s+$", "&\\W+;", "\\s*(_|-|\\s)\\s*",
+            "(?=\\p{Upper})", "([a-z\\d])([A-Z]+)", "\r\n?|\n", "\\s|_|-|(?<=[a-z])(?=[A-Z])",
+            "[\\\\\\^\\$\\*\\+\\-\\?\\.\\|\\(\\)\\{\\}\\[\\]]"};
+        for (String pattern : patterns) {
+            assertThat(pattern, LinearRegex.compile(pattern), notNullValue());
+        }
+    }
+
+    @Test
+    public void compile_shouldRejectPatternsOutsideSubset() throws Exception {
+        String[] patterns = {"(?<=\\G.{2})", "(a)\\1", "(?i)a", "a*+", "(a*)*", "(a)+", "\\bword", "[a&&[b]]",
+            "(?<name>a)", "(?=a|b)", "a{", "(", "*a"};
+        for (String pattern : patterns) {
+            assertThat(pattern, LinearRegex.compile(pattern), nullValue());
+        }
+    }
+
+    @Test
+    public void compile_shouldRejectPatternsWithSurrogates() throws Exception {
+        assertThat(LinearRegex.compile("\uD83D\uDE00*"), nullValue());
+        assertThat(LinearRegex.compile("[\uD83D\uDE00-\uD83D\uDE4F]"), nullValue());
+    }
+
+    @Test
+    public void split_shouldMatchStringSplitForPatternsWithSurrogates() throws Exception {
+        String value = "\u200B\u01C5";
+        assertThat(LinearRegex.split(value, "\uD83D\uDE00*"), equalTo(value.split("\uD83D\uDE00*")));
+        assertThat(Strman.split(value, "\uD83D\uDE00*"), arrayContaining("\u200B", "\u01C5"));
+        assertThat(LinearRegex.replaceAll("a\uD83D\uDE00b", "[\uD83D\uDE00]", "-"), equalTo("a-b"));
+    }
+
+    @Test
+    public void replaceAll_shouldExpandGroupReferences() throws Exception {
+        assertThat(LinearRegex.replaceAll("fooBar bazQUX", "([a-z\\d])([A-Z]+)", "$1_$2"),
+                equalTo("foo_Bar baz_QUX"));
+        assertThat(LinearRegex.replaceAll("a.b", "\\.", "\\$"), equalTo("a$b"));
+        assertThat(LinearRegex.replaceAll("baaa", "a*", "-"), equalTo("-b--"));
+    }
+
+    @Test
+    public void split_shouldFollowStringSplitRules() throws Exception {
+        assertThat(LinearRegex.split("HelloWorld", "(?=\\p{Upper})"), arrayContaining("Hello", "World"));
+        assertThat(LinearRegex.split("a,,b,,", ","), arrayContaining("a", "", "b"));
+        assertThat(LinearRegex.split("", "\\s+"), arrayContaining(""));
+        assertThat(LinearRegex.split(" a  b ", "\\s+"), arrayContaining("", "a", "b"));
+    }
+
+    @Test
+    public void replaceAll_shouldRunInLinearTimeOnHostileInput() throws Exception {
+        StringBuilder value = new StringBuilder();
+        for (int i = 0; i < 50_000; i++) {
+            value.append('a');
+        }
+        String input = value.toString();
+        assertThat(LinearRegex.replaceAll(input, "(?:a|aa)*b", "x"), equalTo(input));
+        assertThat(LinearRegex.replaceAll(input + " ", "\\s+$", ""), equalTo(input));
+    }
+
+    @Test
+    public void replaceAllAndSplit_shouldAgreeWithJavaUtilRegex() throws Exception {
+        int compared = 0;
+        while (compared < 5000) {
+            String regex = alternation(0);
+            LinearRegex compiled = LinearRegex.compile(regex);
+            if (compiled == null) {
+                continue;
+            }
+            String value = value("ab A1_-\r\n", this.random.nextInt(12));
+            String replacement = Pattern.compile(regex).matcher("").groupCount() > 0 ? "<$1|$0>" : "<$0>";
+            String message = regex + " on " + value;
+            assertThat(message, LinearRegex.replaceAll(value, regex, replacement),
+                    equalTo(value.replaceAll(regex, replacement)));
+            assertThat(message, LinearRegex.split(value, regex), equalTo(value.split(regex)));
+            compared++;
+        }
+    }
+
+    private String alternation(final int depth) {
+        String sequence = sequence(depth);
+        return this.random.nextInt(4) == 0 ? sequence + "|" + sequence(depth) : sequence;
+    }
+
+    private String sequence(final int depth) {
+        StringBuilder sequence = new StringBuilder();
+        for (int i = 1 + this.random.nextInt(3); i > 0; i--) {
+            sequence.append(atom(depth)).append(QUANTIFIERS[this.random.nextInt(QUANTIFIERS.length)]);
+        }
+        return sequence.toString();
+    }
+
+    private String atom(final int depth) {
+        int kind = this.random.nextInt(10);
+        if (depth < 3 && kind == 0) {
+            return "(" + alternation(depth + 1) + ")";
+        }
+        if (depth < 3 && kind == 1) {
+            return "(?:" + alternation(depth + 1) + ")";
+        }
+        if (kind == 2) {
+            return ASSERTIONS[this.random.nextInt(ASSERTIONS.length)];
+        }
+        return ATOMS[this.random.nextInt(ATOMS.length)];
+    }
+
+    private String value(final String alphabet, final int length) {
+        StringBuilder value = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            value.append(alphabet.charAt(this.random.nextInt(alphabet.length())));
+        }
+        return value.toString();
+    }
+}
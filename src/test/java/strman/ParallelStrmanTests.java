@@ -0,0 +1,139 @@
+/*
+ *
+ *  * The MIT License
+ *  *
+ *  * Copyright 2016 Shekhar Gulati <shekhargulati84@gmail.com>.
+ *  *
+ *  * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  * of this software and associated documentation files (the "Software"), to deal
+ *  * in the Software without restriction, including without limitation the rights
+ *  * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  * copies of the Software, and to permit persons to whom the Software is
+ *  * furnished to do so, subject to the following conditions:
+ *  *
+ *  * The above copyright notice and this permission notice shall be included in
+ *  * all copies or substantial portions of the Software.
+ *  *
+ *  * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  * THE SOFTWARE.
+ *
+ */
+
+
+package strman;
+
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.*;
+
+public class ParallelStrmanTests {
+
+    private static final String SAMPLE = "The quick brown fox jumps over the lazy dog. aaaAAAaaa abab ABAB ";
+
+    private int threshold;
+
+    @Before
+    public void setUp() throws Exception {
+        this.threshold = ParallelStrman.getThreshold();
+        ParallelStrman.setThreshold(7);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        ParallelStrman.setThreshold(this.threshold);
+    }
+
+    @Test
+    public void countSubstr_shouldMatchSequentialCount() throws Exception {
+        String value = Strman.repeat(SAMPLE, 50);
+        String[] needles = {"a", "aa", "aaa", "AAA", "ab", "abab", "the", "dog. ", "zzz"};
+        for (String needle : needles) {
+            for (boolean caseSensitive : new boolean[]{true, false}) {
+                for (boolean overlapping : new boolean[]{true, false}) {
+                    assertThat(needle, ParallelStrman.countSubstr(value, needle, caseSensitive, overlapping),
+                            equalTo(Strman.countSubstr(value, needle, caseSensitive, overlapping)));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void countSubstr_shouldCountOccurrencesSpanningChunks() throws Exception {
+        ParallelStrman.setThreshold(4);
+        assertThat(ParallelStrman.countSubstr("xxxfoobarxxxfoobar", "foobar"), equalTo(2L));
+        assertThat(ParallelStrman.countSubstr("aaaaaaaaaa", "aa", true, true), equalTo(9L));
+        assertThat(ParallelStrman.countSubstr("aaaaaaaaaa", "aa", true, false), equalTo(5L));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void countSubstr_shouldThrowIllegalArgumentExceptionWhenValueIsNull() throws Exception {
+        ParallelStrman.countSubstr(null, "a");
+    }
+
+    @Test
+    public void charsCount_shouldMatchSequentialCount() throws Exception {
+        Random random = new Random(42);
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            builder.append((char) (random.nextBoolean() ? 'a' + random.nextInt(26) : 0x400 + random.nextInt(64)));
+        }
+        String value = builder.toString();
+        assertThat(ParallelStrman.charsCount(value), equalTo(Strman.charsCount(value)));
+        assertThat(ParallelStrman.charsCount(null), equalTo(Strman.charsCount(null)));
+    }
+
+    @Test
+    public void isUpperCase_shouldMatchSequentialResult() throws Exception {
+        String upper = Strman.repeat("FOO BAR 123 ", 20);
+        assertTrue(ParallelStrman.isUpperCase(upper));
+        assertFalse(ParallelStrman.isUpperCase(upper + "x"));
+        assertFalse(ParallelStrman.isUpperCase("x" + upper));
+    }
+
+    @Test
+    public void isLowerCase_shouldMatchSequentialResult() throws Exception {
+        String lower = Strman.repeat("foo bar 123 ", 20);
+        assertTrue(ParallelStrman.isLowerCase(lower));
+        assertFalse(ParallelStrman.isLowerCase(lower + "X"));
+        assertFalse(ParallelStrman.isLowerCase("X" + lower));
+    }
+
+    @Test
+    public void isUpperCaseAndIsLowerCase_shouldMatchSequentialResultForSupplementaryLetters() throws Exception {
+        // Deseret capital and small letters are supplementary code points
+        String upper = Strman.repeat("A\uD801\uDC00B ", 20);
+        String lower = Strman.repeat("a\uD801\uDC28b ", 20);
+        String[] values = {upper, lower, upper + "\uD801\uDC28", lower + "\uD801\uDC00",
+                "\uD801\uDC28" + upper, "\uD801\uDC00" + lower, upper.substring(1), lower.substring(3)};
+        for (String value : values) {
+            assertThat(value, ParallelStrman.isUpperCase(value), equalTo(Strman.isUpperCase(value)));
+            assertThat(value, ParallelStrman.isLowerCase(value), equalTo(Strman.isLowerCase(value)));
+        }
+        assertFalse(ParallelStrman.isUpperCase(upper + "\uD801\uDC28"));
+        assertFalse(ParallelStrman.isLowerCase(lower + "\uD801\uDC00"));
+    }
+
+    @Test
+    public void containsAll_shouldFindNeedlesAcrossChunks() throws Exception {
+        String value = Strman.repeat(SAMPLE, 10);
+        assertTrue(ParallelStrman.containsAll(value, new String[]{"quick", "LAZY", "dog. aaa", ""}));
+        assertFalse(ParallelStrman.containsAll(value, new String[]{"quick", "LAZY"}, true));
+        assertFalse(ParallelStrman.containsAll(value, new String[]{"quick", "cat"}));
+        assertTrue(ParallelStrman.containsAll(value, new String[]{}));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setThreshold_shouldThrowIllegalArgumentExceptionWhenThresholdIsNotPositive() throws Exception {
+        ParallelStrman.setThreshold(0);
+    }
+}
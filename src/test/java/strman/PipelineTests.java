@@ -0,0 +1,127 @@
+/*
+ *
+ *  * The MIT License
+ *  *
+ *  * Copyright 2016 Shekhar Gulati <shekhargulati84@gmail.com>.
+ *  *
+ *  * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  * of this software and associated documentation files (the "Software"), to deal
+ *  * in the Software without restriction, including without limitation the rights
+ *  * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  * copies of the Software, and to permit persons to whom the Software is
+ *  * furnished to do so, subject to the following conditions:
+ *  *
+ *  * The above copyright notice and this permission notice shall be included in
+ *  * all copies or substantial portions of the Software.
+ *  *
+ *  * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  * THE SOFTWARE.
+ *
+ */
+
+
+package strman;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.*;
+import static strman.Strman.*;
+
+public class PipelineTests {
+
+    private static final String[] FIXTURE = {
+            "",
+            " ",
+            "foo bar",
+            "  foo   bar  ",
+            "\tfoo \t bar\n",
+            "\u0001foo\tbar\u0002",
+            "fóõ  bár déjà vu",
+            "FOO-BAR_baz & qux!",
+            "A Javascript string manipulation library.",
+            "ΑΒΓ Жук 𐐀 𐐨"
+    };
+
+    @Test
+    public void apply_shouldMatchChainedStrmanCalls() throws Exception {
+        Pipeline pipeline = pipeline().trim().collapseWhitespace().transliterate().lowerCase().compile();
+        for (String value : FIXTURE) {
+            assertThat(value, pipeline.apply(value),
+                    equalTo(transliterate(collapseWhitespace(value.trim())).toLowerCase()));
+        }
+    }
+
+    @Test
+    public void apply_shouldMatchIndividualStrmanCalls() throws Exception {
+        for (String value : FIXTURE) {
+            assertThat(pipeline().trim().compile().apply(value), equalTo(value.trim()));
+            assertThat(pipeline().leftTrim().compile().apply(value), equalTo(leftTrim(value)));
+            assertThat(pipeline().rightTrim().compile().apply(value), equalTo(rightTrim(value)));
+            assertThat(pipeline().collapseWhitespace().compile().apply(value), equalTo(collapseWhitespace(value)));
+            assertThat(pipeline().removeSpaces().compile().apply(value), equalTo(removeSpaces(value)));
+            assertThat(pipeline().removeNonWords().compile().apply(value), equalTo(removeNonWords(value)));
+            assertThat(pipeline().transliterate().compile().apply(value), equalTo(transliterate(value)));
+            assertThat(pipeline().upperCase().compile().apply(value), equalTo(value.toUpperCase()));
+            for (int length = 3; length < 12; length++) {
+                assertThat(pipeline().truncate(length, "...").compile().apply(value),
+                        equalTo(truncate(value, length, "...")));
+            }
+        }
+    }
+
+    @Test
+    public void truncate_shouldNotSplitSurrogatePairLikeStrman() throws Exception {
+        String value = "a\uD83D\uDE00b\uD83D\uDE00\uD83D\uDE00c";
+        for (int length = 0; length <= value.length(); length++) {
+            assertThat(pipeline().truncate(length).compile().apply(value), equalTo(truncate(value, length, "")));
+            if (length == 0 || length >= 2) {
+                assertThat(pipeline().truncate(length, "..").compile().apply(value),
+                        equalTo(truncate(value, length, "..")));
+            }
+        }
+        assertThat(pipeline().truncate(5, ".").compile().apply(value), equalTo("a\uD83D\uDE00b."));
+    }
+
+    @Test
+    public void truncate_shouldCutValue() throws Exception {
+        assertThat(pipeline().truncate(3).compile().apply("foo bar"), equalTo("foo"));
+        assertThat(pipeline().truncate(0, ".").compile().apply("foo bar"), equalTo(""));
+        assertThat(pipeline().truncate(7, ".").compile().apply("foo bar"), equalTo("foo bar"));
+        assertThat(pipeline().truncate(4, ".").compile().apply("foo bar"), equalTo("foo."));
+        assertThat(pipeline().lowerCase().truncate(2).upperCase().compile().apply("FOO"), equalTo("FO"));
+    }
+
+    @Test
+    public void map_shouldRunArbitraryFunctionBetweenStreamingStages() throws Exception {
+        Pipeline pipeline = pipeline().collapseWhitespace().map(Strman::slugify).truncate(7).compile();
+        assertThat(pipeline.apply("  Foo   Bar & Baz "), equalTo("foo-bar"));
+        assertThat(pipeline().map(Strman::reverse).compile().apply("abc"), equalTo("cba"));
+    }
+
+    @Test
+    public void compile_shouldReturnReusablePipeline() throws Exception {
+        Pipeline.Builder builder = pipeline().trim();
+        Pipeline trim = builder.compile();
+        Pipeline trimUpper = builder.upperCase().compile();
+        assertThat(trim.apply(" foo "), equalTo("foo"));
+        assertThat(trim.apply(" bar "), equalTo("bar"));
+        assertThat(trimUpper.apply(" foo "), equalTo("FOO"));
+        assertThat(pipeline().compile().apply("foo"), equalTo("foo"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void apply_shouldThrowIllegalArgumentExceptionWhenValueIsNull() throws Exception {
+        pipeline().trim().compile().apply(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void truncate_shouldThrowIllegalArgumentExceptionWhenFillerIsLongerThanLength() throws Exception {
+        pipeline().truncate(2, "...");
+    }
+}
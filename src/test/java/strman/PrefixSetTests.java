@@ -0,0 +1,87 @@
+/*
+ *
+ *  * The MIT License
+ *  *
+ *  * Copyright 2016 Shekhar Gulati <shekhargulati84@gmail.com>.
+ *  *
+ *  * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  * of this software and associated documentation files (the "Software"), to deal
+ *  * in the Software without restriction, including without limitation the rights
+ *  * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  * copies of the Software, and to permit persons to whom the Software is
+ *  * furnished to do so, subject to the following conditions:
+ *  *
+ *  * The above copyright notice and this permission notice shall be included in
+ *  * all copies or substantial portions of the Software.
+ *  *
+ *  * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  * THE SOFTWARE.
+ *
+ */
+
+
+package strman;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.*;
+
+public class PrefixSetTests {
+
+    private final PrefixSet schemes = PrefixSet.of("http://", "https://", "ftp://", "h");
+
+    @Test
+    public void longestMatch_shouldReturnLengthOfLongestPrefix() throws Exception {
+        assertThat(this.schemes.longestMatch("https://example.com"), equalTo(8));
+        assertThat(this.schemes.shortestMatch("https://example.com"), equalTo(1));
+        assertThat(this.schemes.longestMatch("ftp://example.com"), equalTo(6));
+        assertThat(this.schemes.longestMatch("mailto:foo"), equalTo(-1));
+        assertThat(this.schemes.shortestMatch(""), equalTo(-1));
+    }
+
+    @Test
+    public void startsWithAny_shouldMatchAnyPrefix() throws Exception {
+        assertTrue(this.schemes.startsWithAny("ftp://example.com"));
+        assertTrue(this.schemes.startsWithAny("hello"));
+        assertFalse(this.schemes.startsWithAny("ftp:"));
+        assertFalse(PrefixSet.of().startsWithAny("foo"));
+        assertTrue(PrefixSet.of("").startsWithAny("foo"));
+    }
+
+    @Test
+    public void removeAnyLeft_shouldRemoveLongestPrefix() throws Exception {
+        assertThat(this.schemes.removeAnyLeft("https://example.com"), equalTo("example.com"));
+        assertThat(this.schemes.removeAnyLeft("hello"), equalTo("ello"));
+        String value = "example.com";
+        assertThat(this.schemes.removeAnyLeft(value), sameInstance(value));
+    }
+
+    @Test
+    public void ensureAnyLeft_shouldPrependOnlyWhenNoPrefixMatches() throws Exception {
+        PrefixSet set = PrefixSet.of("http://", "https://");
+        assertThat(set.ensureAnyLeft("example.com", "https://"), equalTo("https://example.com"));
+        assertThat(set.ensureAnyLeft("http://example.com", "https://"), equalTo("http://example.com"));
+    }
+
+    @Test
+    public void compile_shouldFoldCaseWhenNotCaseSensitive() throws Exception {
+        PrefixSet set = PrefixSet.compile(Arrays.asList("en-", "EN-US-"), false);
+        assertThat(set.removeAnyLeft("en-us-Color"), equalTo("Color"));
+        assertThat(set.removeAnyLeft("EN-gb"), equalTo("gb"));
+        assertFalse(PrefixSet.compile(Arrays.asList("en-"), true).startsWithAny("EN-gb"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void startsWithAny_shouldThrowIllegalArgumentExceptionWhenValueIsNull() throws Exception {
+        this.schemes.startsWithAny(null);
+    }
+}
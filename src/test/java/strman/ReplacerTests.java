@@ -0,0 +1,159 @@
+/*
+ *
+ *  * The MIT License
+ *  *
+ *  * Copyright 2016 Shekhar Gulati <shekhargulati84@gmail.com>.
+ *  *
+ *  * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  * of this software and associated documentation files (the "Software"), to deal
+ *  * in the Software without restriction, including without limitation the rights
+ *  * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  * copies of the Software, and to permit persons to whom the Software is
+ *  * furnished to do so, subject to the following conditions:
+ *  *
+ *  * The above copyright notice and this permission notice shall be included in
+ *  * all copies or substantial portions of the Software.
+ *  *
+ *  * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  * THE SOFTWARE.
+ *
+ */
+
+
+package strman;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.*;
+import static strman.Strman.replaceAll;
+
+public class ReplacerTests {
+
+    @Test
+    public void replaceAll_shouldReplaceEveryKeyInOnePass() throws Exception {
+        Map<String, String> replacements = new HashMap<>();
+        replacements.put("Hi", "Hello");
+        replacements.put("Hello", "Hi");
+        assertThat(replaceAll("Hi all, I said Hello", replacements), equalTo("Hello all, I said Hi"));
+    }
+
+    @Test
+    public void replaceAll_shouldPreferLongestKeyAtSamePosition() throws Exception {
+        Map<String, String> replacements = new HashMap<>();
+        replacements.put("a", "1");
+        replacements.put("ab", "2");
+        replacements.put("abc", "3");
+        assertThat(replaceAll("abcabxa", replacements), equalTo("32x1"));
+    }
+
+    @Test
+    public void replaceAll_shouldPreferLeftmostMatch() throws Exception {
+        Map<String, String> replacements = new HashMap<>();
+        replacements.put("bcd", "X");
+        replacements.put("ab", "Y");
+        assertThat(replaceAll("abcd", replacements), equalTo("Ycd"));
+        replacements.put("abcde", "Z");
+        assertThat(replaceAll("abcdabcde", replacements), equalTo("YcdZ"));
+    }
+
+    @Test
+    public void replaceAll_shouldIgnoreCaseWhenNotCaseSensitive() throws Exception {
+        Map<String, String> replacements = new LinkedHashMap<>();
+        replacements.put("foo", "bar");
+        replacements.put("FOO", "baz");
+        assertThat(replaceAll("Foo fOO FOO", replacements, false), equalTo("bar bar bar"));
+        assertThat(replaceAll("Foo fOO FOO", replacements, true), equalTo("Foo fOO baz"));
+    }
+
+    @Test
+    public void replace_shouldReturnSameStringWhenNothingMatches() throws Exception {
+        Map<String, String> replacements = new HashMap<>();
+        replacements.put("x", "y");
+        String value = "foo bar";
+        assertThat(Replacer.compile(replacements).replace(value), sameInstance(value));
+        assertThat(Replacer.compile(new HashMap<>()).replace(value), sameInstance(value));
+    }
+
+    @Test
+    public void replace_shouldMatchNaiveLeftmostLongestReplacement() throws Exception {
+        Random random = new Random(7);
+        for (int round = 0; round < 500; round++) {
+            Map<String, String> replacements = new LinkedHashMap<>();
+            int keys = 1 + random.nextInt(6);
+            for (int i = 0; i < keys; i++) {
+                replacements.putIfAbsent(randomString(random, 1 + random.nextInt(4)), "<" + i + ">");
+            }
+            String value = randomString(random, random.nextInt(40));
+            assertThat(value + " " + replacements, Replacer.compile(replacements).replace(value),
+                    equalTo(naiveReplace(value, replacements)));
+        }
+    }
+
+    @Test(timeout = 5000)
+    public void replace_shouldStayLinearWhenLongKeyAlmostMatchesEverywhere() throws Exception {
+        Map<String, String> replacements = new HashMap<>();
+        replacements.put("a", "b");
+        replacements.put(repeat('a', 10000) + "c", "x");
+        String value = repeat('a', 200000);
+        assertThat(Replacer.compile(replacements).replace(value), equalTo(repeat('b', 200000)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void compile_shouldThrowIllegalArgumentExceptionWhenKeyIsEmpty() throws Exception {
+        Map<String, String> replacements = new HashMap<>();
+        replacements.put("", "x");
+        Replacer.compile(replacements);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void replaceAll_shouldThrowIllegalArgumentExceptionWhenValueIsNull() throws Exception {
+        replaceAll(null, new HashMap<>());
+    }
+
+    private static String repeat(final char ch, final int count) {
+        char[] chars = new char[count];
+        Arrays.fill(chars, ch);
+        return new String(chars);
+    }
+
+    private static String randomString(final Random random, final int length) {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = (char) ('a' + random.nextInt(3));
+        }
+        return new String(chars);
+    }
+
+    private static String naiveReplace(final String value, final Map<String, String> replacements) {
+        StringBuilder builder = new StringBuilder();
+        int i = 0;
+        while (i < value.length()) {
+            String longest = null;
+            for (String key : replacements.keySet()) {
+                if (value.startsWith(key, i) && (longest == null || key.length() > longest.length())) {
+                    longest = key;
+                }
+            }
+            if (longest == null) {
+                builder.append(value.charAt(i++));
+            } else {
+                builder.append(replacements.get(longest));
+                i += longest.length();
+            }
+        }
+        return builder.toString();
+    }
+}
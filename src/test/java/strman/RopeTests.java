@@ -0,0 +1,126 @@
+/*
+ *
+ *  * The MIT License
+ *  *
+ *  * Copyright 2016 Shekhar Gulati <shekhargulati84@gmail.com>.
+ *  *
+ *  * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  * of this software and associated documentation files (the "Software"), to deal
+ *  * in the Software without restriction, including without limitation the rights
+ *  * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  * copies of the Software, and to permit persons to whom the Software is
+ *  * furnished to do so, subject to the following conditions:
+ *  *
+ *  * The above copyright notice and this permission notice shall be included in
+ *  * all copies or substantial portions of the Software.
+ *  *
+ *  * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  * THE SOFTWARE.
+ *
+ */
+
+
+package strman;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+public class RopeTests {
+
+    @Test
+    public void of_shouldCreateRopeWithSameContent() throws Exception {
+        Rope rope = Rope.of("foo bar");
+        assertThat(rope.length(), equalTo(7));
+        assertThat(rope.charAt(4), equalTo('b'));
+        assertThat(rope.toString(), equalTo("foo bar"));
+        assertThat(Rope.of(rope), sameInstance(rope));
+        assertThat(Rope.of(""), sameInstance(Rope.empty()));
+    }
+
+    @Test
+    public void append_shouldAppendValuesToEndOfRope() throws Exception {
+        assertThat(Rope.of("f").append("o", "o", "b", "a", "r").toString(), equalTo("foobar"));
+        assertThat(Rope.empty().append("foobar").toString(), equalTo("foobar"));
+    }
+
+    @Test
+    public void prepend_shouldPrependValuesToStartOfRope() throws Exception {
+        assertThat(Rope.of("r").prepend("f", "o", "o", "b", "a").toString(), equalTo("foobar"));
+    }
+
+    @Test
+    public void insert_shouldInsertSubstrAtIndex() throws Exception {
+        assertThat(Rope.of("foo").insert(" bar", 3).toString(), equalTo("foo bar"));
+        assertThat(Rope.of("foo").insert("bar ", 0).toString(), equalTo("bar foo"));
+        assertThat(Rope.of("fbar").insert("oo", 1).toString(), equalTo("foobar"));
+        assertThat(Rope.of("foo").insert("bar", 4).toString(), equalTo("foo"));
+    }
+
+    @Test
+    public void delete_shouldRemoveRange() throws Exception {
+        assertThat(Rope.of("foo bar").delete(3, 7).toString(), equalTo("foo"));
+        assertThat(Rope.of("foo bar").delete(0, 7).length(), equalTo(0));
+    }
+
+    @Test
+    public void surround_shouldSurroundRopeWithPrefixAndSuffix() throws Exception {
+        assertThat(Rope.of("foo").surround("<", ">").toString(), equalTo("<foo>"));
+        assertThat(Rope.of("foo").surround("-", null).toString(), equalTo("-foo-"));
+        assertThat(Rope.of("foo").surround(null, null).toString(), equalTo("foo"));
+    }
+
+    @Test
+    public void slice_shouldReturnSubSequence() throws Exception {
+        Rope rope = Rope.of("foo").append(" ", "bar");
+        assertThat(rope.slice(2, 5).toString(), equalTo("o b"));
+        assertThat(rope.subSequence(0, 0).length(), equalTo(0));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void charAt_shouldThrowIndexOutOfBoundsExceptionWhenIndexIsOutOfRange() throws Exception {
+        Rope.of("foo").charAt(3);
+    }
+
+    @Test
+    public void insert_shouldStayBalancedUnderRandomEdits() throws Exception {
+        Random random = new Random(7);
+        StringBuilder expected = new StringBuilder(Strman.repeat("0123456789", 1000));
+        Rope rope = Rope.of(expected);
+        for (int i = 0; i < 5000; i++) {
+            int index = random.nextInt(expected.length() + 1);
+            if (random.nextInt(4) == 0 && index < expected.length()) {
+                int end = Math.min(expected.length(), index + random.nextInt(50));
+                expected.delete(index, end);
+                rope = rope.delete(index, end);
+            } else {
+                String text = Strman.repeat("x", random.nextInt(300));
+                expected.insert(index, text);
+                rope = rope.insert(text, index);
+            }
+        }
+        assertThat(rope.length(), equalTo(expected.length()));
+        assertThat(rope.toString(), equalTo(expected.toString()));
+        assertThat(rope.charAt(expected.length() / 2), equalTo(expected.charAt(expected.length() / 2)));
+        int bound = (int) (1.45 * Math.log(rope.length()) / Math.log(2)) + 2;
+        assertTrue("height " + rope.height() + " > " + bound, rope.height() <= bound);
+    }
+
+    @Test
+    public void append_shouldMergeSmallPieces() throws Exception {
+        Rope rope = Rope.empty();
+        for (int i = 0; i < 10000; i++) {
+            rope = rope.append("x");
+        }
+        assertThat(rope.length(), equalTo(10000));
+        assertTrue(rope.height() <= 10);
+    }
+}
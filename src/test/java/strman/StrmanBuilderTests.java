@@ -0,0 +1,173 @@
+/*
+ *
+ *  * The MIT License
+ *  *
+ *  * Copyright 2016 Shekhar Gulati <shekhargulati84@gmail.com>.
+ *  *
+ *  * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  * of this software and associated documentation files (the "Software"), to deal
+ *  * in the Software without restriction, including without limitation the rights
+ *  * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  * copies of the Software, and to permit persons to whom the Software is
+ *  * furnished to do so, subject to the following conditions:
+ *  *
+ *  * The above copyright notice and this permission notice shall be included in
+ *  * all copies or substantial portions of the Software.
+ *  *
+ *  * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  * THE SOFTWARE.
+ *
+ */
+
+
+package strman;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+public class StrmanBuilderTests {
+
+    @Test
+    public void ensureLeft_shouldPrependPrefixWhenMissing() throws Exception {
+        assertThat(new StrmanBuilder("bar").ensureLeft("foo").toString(), equalTo("foobar"));
+        assertThat(new StrmanBuilder("foobar").ensureLeft("foo").toString(), equalTo("foobar"));
+        assertThat(new StrmanBuilder("FOObar").ensureLeft("foo", false).toString(), equalTo("FOObar"));
+        assertThat(new StrmanBuilder("FOObar").ensureLeft("foo").toString(), equalTo("fooFOObar"));
+    }
+
+    @Test
+    public void ensureRight_shouldAppendSuffixWhenMissing() throws Exception {
+        assertThat(new StrmanBuilder("foo").ensureRight("bar").toString(), equalTo("foobar"));
+        assertThat(new StrmanBuilder("foobar").ensureRight("bar").toString(), equalTo("foobar"));
+        assertThat(new StrmanBuilder("fooBAR").ensureRight("bar", false).toString(), equalTo("fooBAR"));
+    }
+
+    @Test
+    public void removeLeftAndRight_shouldRemovePrefixAndSuffix() throws Exception {
+        StrmanBuilder builder = new StrmanBuilder("foobarbaz").removeLeft("foo").removeRight("baz");
+        assertThat(builder.toString(), equalTo("bar"));
+        assertThat(new StrmanBuilder("FOObar").removeLeft("foo").toString(), equalTo("FOObar"));
+        assertThat(new StrmanBuilder("FOObarBAZ").removeLeft("foo", false).removeRight("baz", false).toString(),
+                equalTo("bar"));
+    }
+
+    @Test
+    public void leftPadAndRightPad_shouldMatchStrman() throws Exception {
+        for (String pad : new String[]{"0", "ab"}) {
+            for (int length = 0; length < 8; length++) {
+                assertThat(new StrmanBuilder("1").leftPad(pad, length).toString(),
+                        equalTo(Strman.leftPad("1", pad, length)));
+                assertThat(new StrmanBuilder("1").rightPad(pad, length).toString(),
+                        equalTo(Strman.rightPad("1", pad, length)));
+            }
+        }
+    }
+
+    @Test
+    public void collapseWhitespace_shouldMatchStrman() throws Exception {
+        String[] fixture = {"", "   ", "foo    bar", "  foo \t\n bar\t ", "\u0001a\tb\u0002", "a  b c"};
+        for (String value : fixture) {
+            assertThat(new StrmanBuilder(value).collapseWhitespace().toString(),
+                    equalTo(Strman.collapseWhitespace(value)));
+        }
+    }
+
+    @Test
+    public void reverse_shouldKeepSurrogatePairs() throws Exception {
+        String[] fixture = {"", "a", "foo bar", "a😀b", "😀", "x😀😁"};
+        for (String value : fixture) {
+            assertThat(new StrmanBuilder(value).reverse().toString(), equalTo(Strman.reverse(value)));
+        }
+    }
+
+    @Test
+    public void swapCase_shouldSwapCaseOfCharacters() throws Exception {
+        assertThat(new StrmanBuilder("Hello World").swapCase().toString(), equalTo("hELLO wORLD"));
+    }
+
+    @Test
+    public void swapCase_shouldSwapCaseLikeStrman() throws Exception {
+        String[] values = {"Stra\u00DFe", "\uD801\uDC00bc\u00DFD", "\u01C5\u0130i", "\uFB00 \u00E9T\u00C9"};
+        for (String value : values) {
+            assertThat(new StrmanBuilder(value).swapCase().toString(), equalTo(Strman.swapCase(value)));
+        }
+        assertThat(new StrmanBuilder("Stra\u00DFe").swapCase().toString(), equalTo("sTRASSE"));
+    }
+
+    @Test
+    public void insert_shouldInsertSubstrAtIndex() throws Exception {
+        assertThat(new StrmanBuilder("fbar").insert("oo", 1).toString(), equalTo("foobar"));
+        assertThat(new StrmanBuilder("foo").insert("bar", 3).toString(), equalTo("foobar"));
+        assertThat(new StrmanBuilder("foo").insert("bar", 4).toString(), equalTo("foo"));
+    }
+
+    @Test
+    public void replace_shouldReplaceAllOccurrences() throws Exception {
+        assertThat(new StrmanBuilder("foo bar foo").replace("foo", "x", true).toString(), equalTo("x bar x"));
+        assertThat(new StrmanBuilder("foo bar foo").replace("foo", "quux", true).toString(),
+                equalTo("quux bar quux"));
+        assertThat(new StrmanBuilder("FOO bar foo").replace("foo", "bar", false).toString(), equalTo("bar bar bar"));
+        assertThat(new StrmanBuilder("aaaa").replace("aa", "b", true).toString(), equalTo("bb"));
+        assertThat(new StrmanBuilder("ab").replace("", "-", true).toString(), equalTo("ab".replace("", "-")));
+        assertThat(new StrmanBuilder("foo").replace("x", "y", true).toString(), equalTo("foo"));
+        StringBuilder many = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            many.append("ab");
+        }
+        assertThat(new StrmanBuilder(many).replace("a", "xyz", true).toString(),
+                equalTo(many.toString().replace("a", "xyz")));
+    }
+
+    @Test
+    public void truncate_shouldMatchStrman() throws Exception {
+        for (int length = 0; length < 10; length++) {
+            if (length == 1 || length == 2) {
+                continue;
+            }
+            assertThat(new StrmanBuilder("foo bar").truncate(length, "...").toString(),
+                    equalTo(Strman.truncate("foo bar", length, "...")));
+        }
+    }
+
+    @Test
+    public void truncate_shouldNotSplitSurrogatePairLikeStrman() throws Exception {
+        String value = "a\uD83D\uDE00b\uD83D\uDE00\uD83D\uDE00c";
+        for (int length = 0; length <= value.length(); length++) {
+            assertThat(new StrmanBuilder(value).truncate(length, "").toString(),
+                    equalTo(Strman.truncate(value, length, "")));
+            if (length == 0 || length >= 2) {
+                assertThat(new StrmanBuilder(value).truncate(length, "..").toString(),
+                        equalTo(Strman.truncate(value, length, "..")));
+            }
+        }
+        assertThat(new StrmanBuilder(value).truncate(2, "").toString(), equalTo("a"));
+    }
+
+    @Test
+    public void operations_shouldChainOnTheSameBuffer() throws Exception {
+        StrmanBuilder builder = new StrmanBuilder("  hello   world  ");
+        assertThat(builder.collapseWhitespace().ensureLeft("> ").replace("world", "there", true).rightPad(".", 16),
+                sameInstance(builder));
+        assertThat(builder.toString(), equalTo("> hello there..."));
+        assertThat(builder.length(), equalTo(16));
+        assertThat(builder.charAt(2), equalTo('h'));
+        assertThat(builder.subSequence(2, 7).toString(), equalTo("hello"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructor_shouldThrowIllegalArgumentExceptionWhenValueIsNull() throws Exception {
+        new StrmanBuilder(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void ensureRight_shouldThrowIllegalArgumentExceptionWhenSuffixIsNull() throws Exception {
+        new StrmanBuilder("foo").ensureRight(null);
+    }
+}
@@ -91,6 +91,13 @@ public class StrmanTests {
         assertThat(between("<span>foo</span><span>bar</span>", "<span>", "</span>"), arrayContaining("foo", "bar"));
     }
 
+    @Test
+    public void between_shouldTreatDelimitersLiterally() throws Exception {
+        assertThat(between("f(a) g(b)", "(", ")"), arrayContaining("a", "b"));
+        assertThat(between("a.b.c", "a", "."), arrayContaining(""));
+        assertThat(between("[abc][de", "[", "]"), arrayContaining("abc"));
+    }
+
     @Test
     public void between_shouldReturnEmptyArrayWhenStartAndEndDoesNotExist() throws Exception {
         assertThat(between("[abc][def]", "{", "}").length, equalTo(0));
@@ -458,6 +465,18 @@ public class StrmanTests {
         assertThat(isUpperCase("foobarfooA"), equalTo(false));
     }
 
+    @Test
+    public void isUpperCase_shouldCheckCodePoints() throws Exception {
+        assertThat(isUpperCase("ÀÉÎ 1-2"), equalTo(true));
+        assertThat(isUpperCase("ÀÉÎß"), equalTo(false));
+        assertThat(isUpperCase("\uD801\uDC00"), equalTo(true));
+        assertThat(isUpperCase("A\uD801\uDC28"), equalTo(false));
+        assertThat(isLowerCase("àéî 1-2 ß"), equalTo(true));
+        assertThat(isLowerCase("\uD801\uDC28"), equalTo(true));
+        assertThat(isLowerCase("a\uD801\uDC00"), equalTo(false));
+        assertThat(isLowerCase("ΑΒΓ"), equalTo(false));
+    }
+
     @Test
     public void last_shouldReturnLastNChars() throws Exception {
         assertThat(last("foo", 3), equalTo("foo"));
@@ -627,6 +646,20 @@ public class StrmanTests {
         assertThat(replace("FOO bar foo", "foo", "bar", false), equalTo("bar bar bar"));
     }
 
+    @Test
+    public void replace_shouldTreatSearchLiterallyWhenNotCaseSensitive() throws Exception {
+        assertThat(replace("a.b A(B a.B", "A.b", "$1", false), equalTo("$1 A(B $1"));
+        assertThat(replace("aXbxXc", "xx", "-", false), equalTo("aXb-c"));
+        assertThat(replace("aaaa", "AA", "b", false), equalTo("bb"));
+        assertThat(replace("abc", "", "-", false), equalTo("-a-b-c-"));
+    }
+
+    @Test
+    public void replace_shouldReturnSameInstanceWhenSearchIsNotFound() throws Exception {
+        String value = "foo bar";
+        assertThat(replace(value, "BAZ", "qux", false), sameInstance(value));
+    }
+
     @Test
     public void reverse_shouldReverseInputString() throws Exception {
         assertThat(reverse(""), equalTo(""));
@@ -647,6 +680,44 @@ public class StrmanTests {
         assertThat(rightPad("10000000", "0", 5), equalTo("10000000"));
     }
 
+    @Test
+    public void pad_shouldPadToDisplayWidth() throws Exception {
+        assertThat(rightPad("日本", " ", 6, Measure.DISPLAY_WIDTH), equalTo("日本  "));
+        assertThat(leftPad("abc", " ", 6, Measure.DISPLAY_WIDTH), equalTo("   abc"));
+        assertThat(leftPad("cafe\u0301", ".", 6, Measure.DISPLAY_WIDTH), equalTo("..cafe\u0301"));
+        assertThat(rightPad("ab", "\u3000", 7, Measure.DISPLAY_WIDTH), equalTo("ab\u3000\u3000"));
+        assertThat(rightPad("日本語", " ", 4, Measure.DISPLAY_WIDTH), equalTo("日本語"));
+        assertThat(rightPad("a", "\u200B", 4, Measure.DISPLAY_WIDTH), equalTo("a"));
+        assertThat(rightPad("1", "0", 5, Measure.CHARS), equalTo(rightPad("1", "0", 5)));
+    }
+
+    @Test
+    public void displayWidth_shouldCountColumns() throws Exception {
+        assertThat(displayWidth(""), equalTo(0));
+        assertThat(displayWidth("foo bar"), equalTo(7));
+        assertThat(displayWidth("日本語"), equalTo(6));
+        assertThat(displayWidth("ｆｕｌｌ"), equalTo(8));
+        assertThat(displayWidth("한국어"), equalTo(6));
+        assertThat(displayWidth("cafe\u0301"), equalTo(4));
+        assertThat(displayWidth("a\u200Bb\u0007"), equalTo(2));
+        assertThat(displayWidth("\uD83D\uDE00!"), equalTo(3));
+        assertThat(displayWidth("\uD840\uDC0B"), equalTo(2));
+        assertThat(displayWidth(new StringBuilder("Ωμέγα")), equalTo(5));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void displayWidth_shouldThrowIllegalArgumentExceptionForNullValue() throws Exception {
+        displayWidth(null);
+    }
+
+    @Test
+    public void truncate_shouldTruncateToDisplayWidth() throws Exception {
+        assertThat(truncate("日本語のテキスト", 7, "…", Measure.DISPLAY_WIDTH), equalTo("日本語…"));
+        assertThat(truncate("日本語", 5, "", Measure.DISPLAY_WIDTH), equalTo("日本"));
+        assertThat(truncate("日本語", 6, "", Measure.DISPLAY_WIDTH), equalTo("日本語"));
+        assertThat(safeTruncate("東京 大阪 名古屋", 12, "…", Measure.DISPLAY_WIDTH), equalTo("東京 大阪…"));
+    }
+
     @Test
     public void rightTrim_shouldRemoveSpacesFromTheRight() throws Exception {
         assertThat(rightTrim("strman   "), equalTo("strman"));
@@ -681,6 +752,39 @@ public class StrmanTests {
         assertThat(truncate("A Javascript string manipulation library.", 14, "..."), equalTo("A Javascrip..."));
     }
 
+    @Test
+    public void truncate_shouldNotCutSurrogatePairs() throws Exception {
+        assertThat(truncate("a\uD83D\uDE00b", 3, ""), equalTo("a\uD83D\uDE00"));
+        assertThat(truncate("a\uD83D\uDE00b", 2, ""), equalTo("a"));
+        assertThat(truncate("a\uD83D\uDE00b", 2, "", Measure.CODE_POINTS), equalTo("a\uD83D\uDE00"));
+    }
+
+    @Test
+    public void truncate_shouldCountInTheGivenMeasure() throws Exception {
+        assertThat(truncate("cafe\u0301 au lait", 6, ".", Measure.GRAPHEMES), equalTo("cafe\u0301 ."));
+        assertThat(truncate("cafe\u0301 au lait", 6, ".", Measure.CODE_POINTS), equalTo("cafe\u0301."));
+        assertThat(truncate("cafe\u0301", 4, ".", Measure.GRAPHEMES), equalTo("cafe\u0301"));
+        assertThat(truncate("foo bar", 4, ".", Measure.CHARS), equalTo(truncate("foo bar", 4, ".")));
+    }
+
+    @Test
+    public void safeTruncate_shouldCountInTheGivenMeasure() throws Exception {
+        String value = "\uD83D\uDE00\uD83D\uDE00 \uD83D\uDE01\uD83D\uDE01 \uD83D\uDE02";
+        assertThat(safeTruncate(value, 4, ".", Measure.CODE_POINTS), equalTo("\uD83D\uDE00\uD83D\uDE00."));
+        assertThat(safeTruncate(value, 4, ".", Measure.CHARS), equalTo("."));
+        assertThat(safeTruncate(value, 8, ".", Measure.CODE_POINTS), equalTo(value));
+        assertThat(safeTruncate("e\u0301te\u0301  hiver", 8, "...", Measure.GRAPHEMES), equalTo("e\u0301te\u0301..."));
+    }
+
+    @Test
+    public void safeTruncate_shouldOnlyReadAsFarAsTheLimit() throws Exception {
+        StringBuilder value = new StringBuilder("lorem ipsum");
+        for (int i = 0; i < 100000; i++) {
+            value.append(" dolor");
+        }
+        assertThat(safeTruncate(value.toString(), 12, "..."), equalTo("lorem..."));
+    }
+
     @Test
     public void htmlDecode_shouldDecodeToHtml() throws Exception {
         assertThat(htmlDecode("&aacute;"), equalTo("\u00E1"));
@@ -689,6 +793,15 @@ public class StrmanTests {
         assertThat(htmlDecode("&boxdl;"), equalTo("┐"));
     }
 
+    @Test
+    public void htmlDecode_shouldDecodeEntitiesInText() throws Exception {
+        assertThat(htmlDecode("Tom &amp; Jerry &lt;3 caf&eacute;"), equalTo("Tom & Jerry <3 café"));
+        assertThat(htmlDecode("&#65;&#x42;&#X43;"), equalTo("ABC"));
+        assertThat(htmlDecode("&copy 2017 &notit;"), equalTo("© 2017 ¬it;"));
+        assertThat(htmlDecode("a & b &unknown; &#xZZ; &"), equalTo("a & b &unknown; &#xZZ; &"));
+        assertThat(htmlDecode(""), equalTo(""));
+    }
+
     @Test
     public void htmlEncode_shouldBeEncodedToHtmlEntities() throws Exception {
         assertThat(htmlEncode("á"), equalTo("&aacute;"));
@@ -698,6 +811,12 @@ public class StrmanTests {
         assertThat(htmlEncode("┐"), equalTo("&boxdl;"));
     }
 
+    @Test
+    public void htmlEncode_shouldLeaveCharactersWithoutEntityUnchanged() throws Exception {
+        assertThat(htmlEncode("fred"), equalTo("fred"));
+        assertThat(htmlEncode("fooШ"), equalTo("foo&SHcy;"));
+    }
+
     @Test
     public void shuffle_shouldShuffleAString() throws Exception {
         assertThat(shuffle("shekhar"), not(equalTo("shekhar")));
@@ -747,6 +866,33 @@ public class StrmanTests {
         assertThat(transliterate("fóõ bár"), equalTo("foo bar"));
     }
 
+    @Test
+    public void foldAccents_shouldRemoveAccents() throws Exception {
+        assertThat(foldAccents("Crème Brûlée"), equalTo("Creme Brulee"));
+        assertThat(foldAccents("Ärger über Öl"), equalTo("Arger uber Ol"));
+        assertThat(foldAccents("Tiếng Việt"), equalTo("Tieng Viet"));
+        assertThat(foldAccents("cafe\u0301"), equalTo("cafe"));
+        assertThat(foldAccents("Straße Æsir Жук"), equalTo("Strasse AEsir ZHuk"));
+        assertThat(foldAccents(""), equalTo(""));
+    }
+
+    @Test
+    public void foldAccents_shouldReturnAsciiValuesAsTheyAre() throws Exception {
+        String value = "foo bar";
+        assertThat(foldAccents(value), sameInstance(value));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void foldAccents_shouldThrowIllegalArgumentExceptionForNullValue() throws Exception {
+        foldAccents(null);
+    }
+
+    @Test
+    public void slugify_shouldFoldAccents() throws Exception {
+        assertThat(slugify("Ärger über Öl", true), equalTo("arger-uber-ol"));
+        assertThat(slugify("Ärger über Öl", false), equalTo("aerger-ueber-oel"));
+    }
+
     @Test
     public void surround_shouldSurroundStringWithPrefixAndSuffix() throws Exception {
         assertThat(surround("foo", "bar", null), equalTo("barfoobar"));
@@ -1187,6 +1333,173 @@ public class StrmanTests {
         assertThat(chop("whitespace", 0)[0].length(), equalTo(10));
     }
 
+    @Test
+    public void chopGraphemes_shouldChopStringByStepWithoutSplittingGraphemes() throws Exception {
+        assertThat(chopGraphemes(null, 2).length, equalTo(0));
+        assertThat(chopGraphemes("whitespace", 3), equalTo(chop("whitespace", 3)));
+        assertThat(chopGraphemes("e\u0301te\u0301", 2), equalTo(new String[]{"e\u0301t", "e\u0301"}));
+        assertThat(chopGraphemes("\uD83D\uDE00\uD83D\uDE01\uD83D\uDE02", 1),
+                equalTo(new String[]{"\uD83D\uDE00", "\uD83D\uDE01", "\uD83D\uDE02"}));
+        assertThat(chopGraphemes("e\u0301te\u0301", 0), equalTo(new String[]{"e\u0301te\u0301"}));
+    }
+
+    @Test
+    public void graphemeLength_shouldCountGraphemes() throws Exception {
+        assertThat(graphemeLength(""), equalTo(0));
+        assertThat(graphemeLength("foo bar"), equalTo(7));
+        assertThat(graphemeLength("cafe\u0301"), equalTo(4));
+        assertThat(graphemeLength("a\uD83D\uDE00b"), equalTo(3));
+        assertThat(graphemeLength("a\r\nb"), equalTo(3));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void graphemeLength_shouldThrowIllegalArgumentExceptionForNullValue() throws Exception {
+        graphemeLength(null);
+    }
+
+    @Test
+    public void graphemeLength_shouldKeepEmojiSequencesTogether() throws Exception {
+        assertThat(graphemeLength("\uD83D\uDC4D\uD83C\uDFFD"), equalTo(1));
+        assertThat(graphemeLength("\uD83C\uDDEB\uD83C\uDDF7"), equalTo(1));
+        assertThat(graphemeLength("\uD83C\uDDEB\uD83C\uDDF7\uD83C\uDDE9\uD83C\uDDEA\uD83C\uDDEB"), equalTo(3));
+        assertThat(graphemeLength("\uD83D\uDC68\u200D\uD83D\uDC69\u200D\uD83D\uDC67"), equalTo(1));
+        assertThat(graphemeLength("\u2764\uFE0F!"), equalTo(2));
+        assertThat(graphemeLength("a\uD83D\uDC4D\uD83C\uDFFDb"), equalTo(3));
+    }
+
+    @Test
+    public void reverseGraphemes_shouldKeepEmojiSequencesTogether() throws Exception {
+        String family = "\uD83D\uDC68\u200D\uD83D\uDC69\u200D\uD83D\uDC67";
+        String thumbsUp = "\uD83D\uDC4D\uD83C\uDFFD";
+        String france = "\uD83C\uDDEB\uD83C\uDDF7";
+        String germany = "\uD83C\uDDE9\uD83C\uDDEA";
+        assertThat(reverseGraphemes(family + "a" + thumbsUp + france + germany),
+                equalTo(germany + france + thumbsUp + "a" + family));
+        assertThat(graphemeAt("x" + family + "y", 1), equalTo(Optional.of(family)));
+        assertThat(chopGraphemes(thumbsUp + france, 1), equalTo(new String[]{thumbsUp, france}));
+        assertThat(truncate(family + thumbsUp + "z", 2, "", Measure.GRAPHEMES), equalTo(family + thumbsUp));
+    }
+
+    @Test
+    public void graphemeAt_shouldFindGraphemeAtIndex() throws Exception {
+        assertThat(graphemeAt("foobar", 0), equalTo(Optional.of("f")));
+        assertThat(graphemeAt("cafe\u0301s", 3), equalTo(Optional.of("e\u0301")));
+        assertThat(graphemeAt("cafe\u0301s", -2), equalTo(Optional.of("e\u0301")));
+        assertThat(graphemeAt("a\uD83D\uDE00", 1), equalTo(Optional.of("\uD83D\uDE00")));
+        assertThat(graphemeAt("cafe\u0301s", 5), equalTo(Optional.empty()));
+        assertThat(graphemeAt("cafe\u0301s", -6), equalTo(Optional.empty()));
+        assertThat(graphemeAt(null, 0), equalTo(Optional.empty()));
+    }
+
+    @Test
+    public void reverseGraphemes_shouldReverseGraphemes() throws Exception {
+        assertThat(reverseGraphemes("foo bar"), equalTo("rab oof"));
+        assertThat(reverseGraphemes("cafe\u0301"), equalTo("e\u0301fac"));
+        assertThat(reverseGraphemes("a\uD83D\uDE00b\r\n"), equalTo("\r\nb\uD83D\uDE00a"));
+        assertThat(reverseGraphemes(""), equalTo(""));
+    }
+
+    @Test
+    public void charAt_shouldReturnCharOrMinusOne() throws Exception {
+        assertThat(charAt("foobar", 0), equalTo((int) 'f'));
+        assertThat(charAt("foobar", -1), equalTo((int) 'r'));
+        assertThat(charAt("foobar", 6), equalTo(-1));
+        assertThat(charAt("foobar", -7), equalTo(-1));
+        assertThat(charAt("", 0), equalTo(-1));
+        assertThat(charAt(null, 0), equalTo(-1));
+    }
+
+    @Test
+    public void codePointAt_shouldReturnCodePointOrMinusOne() throws Exception {
+        assertThat(codePointAt("a\uD83D\uDE00", 1), equalTo(0x1F600));
+        assertThat(codePointAt("a\uD83D\uDE00", -1), equalTo(0xDE00));
+        assertThat(codePointAt("a\uD83D\uDE00", -3), equalTo((int) 'a'));
+        assertThat(codePointAt("a\uD83D\uDE00", 3), equalTo(-1));
+        assertThat(codePointAt(null, 0), equalTo(-1));
+    }
+
+    @Test
+    public void firstView_shouldShareTheFirstChars() throws Exception {
+        assertThat(firstView("foobar", 3).toString(), equalTo("foo"));
+        assertThat(firstView("foobar", 10).toString(), equalTo("foobar"));
+        assertThat(firstView("", 1).length(), equalTo(0));
+        StringBuilder value = new StringBuilder("foobar");
+        CharSequence view = firstView(value, 3);
+        value.setCharAt(0, 'g');
+        assertThat(view.toString(), equalTo("goo"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void firstView_shouldThrowIllegalArgumentExceptionForNegativeN() throws Exception {
+        firstView("foo", -1);
+    }
+
+    @Test
+    public void tailView_shouldShareTheTail() throws Exception {
+        assertThat(tailView("foobar").toString(), equalTo("oobar"));
+        assertThat(tailView("f").length(), equalTo(0));
+        assertThat(tailView("").length(), equalTo(0));
+        assertThat(tailView("foobar").charAt(0), equalTo('o'));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void tailView_shouldThrowIllegalArgumentExceptionForNullValue() throws Exception {
+        tailView(null);
+    }
+
+    @Test
+    public void swapCase_shouldUseFullMappingWhenLengthChanges() throws Exception {
+        assertThat(swapCase("Straße"), equalTo("sTRASSE"));
+        assertThat(swapCase("\uFB01x"), equalTo("FIX"));
+        assertThat(swapCase("\u0130"), equalTo("i\u0307"));
+        assertThat(swapCase("Ünïcödé ÿ µ"), equalTo("üNÏCÖDÉ \u0178 \u039C"));
+        assertThat(swapCase("Ωμέγα"), equalTo("ωΜΈΓΑ"));
+    }
+
+    @Test
+    public void swapCase_shouldSwapCaseOfSupplementaryLetters() throws Exception {
+        assertThat(swapCase("\uD801\uDC00\uD801\uDC28a"), equalTo("\uD801\uDC28\uD801\uDC00A"));
+        assertThat(swapCase("\uD83D\uDE00"), equalTo("\uD83D\uDE00"));
+    }
+
+    @Test
+    public void codePoints_shouldFillTheGivenArray() throws Exception {
+        int[] dest = new int[4];
+        assertThat(codePoints("a\uD83D\uDE00b", dest), equalTo(3));
+        assertThat(dest, equalTo(new int[]{'a', 0x1F600, 'b', 0}));
+        int[] small = new int[1];
+        assertThat(codePoints("\uD83D\uDE00\uD83D\uDE01", small), equalTo(2));
+        assertThat(small, equalTo(new int[]{0x1F600}));
+        assertThat(codePoints("", small), equalTo(0));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void codePoints_shouldThrowIllegalArgumentExceptionForNullValue() throws Exception {
+        codePoints(null, new int[1]);
+    }
+
+    @Test
+    public void codePointLength_shouldCountCodePoints() throws Exception {
+        assertThat(codePointLength(""), equalTo(0));
+        assertThat(codePointLength("foo"), equalTo(3));
+        assertThat(codePointLength("a\uD83D\uDE00b"), equalTo(3));
+    }
+
+    @Test
+    public void nthCodePoint_shouldFindCodePointAtIndex() throws Exception {
+        assertThat(nthCodePoint("a\uD83D\uDE00b", 1), equalTo(0x1F600));
+        assertThat(nthCodePoint("a\uD83D\uDE00b", 2), equalTo((int) 'b'));
+        assertThat(nthCodePoint("a\uD83D\uDE00b", -2), equalTo(0x1F600));
+        assertThat(nthCodePoint("a\uD83D\uDE00b", 3), equalTo(-1));
+        assertThat(nthCodePoint("a\uD83D\uDE00b", -4), equalTo(-1));
+        assertThat(nthCodePoint(null, 0), equalTo(-1));
+    }
+
+    @Test
+    public void reverse_shouldKeepSurrogatePairs() throws Exception {
+        assertThat(reverse("a\uD83D\uDE00b"), equalTo("b\uD83D\uDE00a"));
+    }
+
     @Test
     public void formatNumber_shouldFormatNumberWithCommaDelimiter() throws Exception {
         assertThat(formatNumber(1000), equalTo("1,000"));
@@ -0,0 +1,76 @@
+/*
+ *
+ *  * The MIT License
+ *  *
+ *  * Copyright 2016 Shekhar Gulati <shekhargulati84@gmail.com>.
+ *  *
+ *  * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  * of this software and associated documentation files (the "Software"), to deal
+ *  * in the Software without restriction, including without limitation the rights
+ *  * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  * copies of the Software, and to permit persons to whom the Software is
+ *  * furnished to do so, subject to the following conditions:
+ *  *
+ *  * The above copyright notice and this permission notice shall be included in
+ *  * all copies or substantial portions of the Software.
+ *  *
+ *  * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  * THE SOFTWARE.
+ *
+ */
+
+
+package strman;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.*;
+
+public class SuffixSetTests {
+
+    private final SuffixSet extensions = SuffixSet.of(".gz", ".tar.gz", ".txt");
+
+    @Test
+    public void longestMatch_shouldReturnLengthOfLongestSuffix() throws Exception {
+        assertThat(this.extensions.longestMatch("foo.tar.gz"), equalTo(7));
+        assertThat(this.extensions.shortestMatch("foo.tar.gz"), equalTo(3));
+        assertThat(this.extensions.longestMatch("foo.zip"), equalTo(-1));
+    }
+
+    @Test
+    public void endsWithAny_shouldMatchAnySuffix() throws Exception {
+        assertTrue(this.extensions.endsWithAny("notes.txt"));
+        assertFalse(this.extensions.endsWithAny("notes.txt.bak"));
+        assertFalse(this.extensions.endsWithAny(""));
+    }
+
+    @Test
+    public void removeAnyRight_shouldRemoveLongestSuffix() throws Exception {
+        assertThat(this.extensions.removeAnyRight("foo.tar.gz"), equalTo("foo"));
+        assertThat(this.extensions.removeAnyRight("foo.gz"), equalTo("foo"));
+        String value = "foo.zip";
+        assertThat(this.extensions.removeAnyRight(value), sameInstance(value));
+    }
+
+    @Test
+    public void ensureAnyRight_shouldAppendOnlyWhenNoSuffixMatches() throws Exception {
+        assertThat(this.extensions.ensureAnyRight("notes", ".txt"), equalTo("notes.txt"));
+        assertThat(this.extensions.ensureAnyRight("notes.gz", ".txt"), equalTo("notes.gz"));
+    }
+
+    @Test
+    public void compile_shouldFoldCaseWhenNotCaseSensitive() throws Exception {
+        SuffixSet set = SuffixSet.compile(Arrays.asList(".JPG", ".jpeg"), false);
+        assertThat(set.removeAnyRight("photo.jpg"), equalTo("photo"));
+        assertThat(set.removeAnyRight("photo.JPEG"), equalTo("photo"));
+    }
+}
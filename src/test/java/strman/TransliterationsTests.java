@@ -0,0 +1,112 @@
+/*
+ *
+ *  * The MIT License
+ *  *
+ *  * Copyright 2016 Shekhar Gulati <shekhargulati84@gmail.com>.
+ *  *
+ *  * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  * of this software and associated documentation files (the "Software"), to deal
+ *  * in the Software without restriction, including without limitation the rights
+ *  * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  * copies of the Software, and to permit persons to whom the Software is
+ *  * furnished to do so, subject to the following conditions:
+ *  *
+ *  * The above copyright notice and this permission notice shall be included in
+ *  * all copies or substantial portions of the Software.
+ *  *
+ *  * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  * THE SOFTWARE.
+ *
+ */
+
+
+package strman;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.*;
+
+public class TransliterationsTests {
+
+    @After
+    public void tearDown() {
+        Transliterations.clear();
+    }
+
+    @Test
+    public void register_shouldTakePrecedenceOverBuiltInTables() throws Exception {
+        assertThat(Strman.transliterate("Fähre"), equalTo("Faehre"));
+        Transliterations.register("ä", "a");
+        assertThat(Strman.transliterate("Fähre"), equalTo("Fahre"));
+        assertThat(Strman.slugify("Grüße aus Mälmo"), equalTo("gruesse-aus-malmo"));
+    }
+
+    @Test
+    public void register_shouldPreferTheLongestOverlay() throws Exception {
+        Map<String, String> mappings = new HashMap<>();
+        mappings.put("ß", "ss");
+        mappings.put("ßß", "SZ");
+        mappings.put("ab", "X");
+        Transliterations.register(mappings);
+        assertThat(Strman.transliterate("ßßß aab"), equalTo("SZss aX"));
+    }
+
+    @Test
+    public void register_shouldReplaceAnEarlierOverlayOfTheSameSource() throws Exception {
+        Transliterations.register("ö", "oe");
+        Transliterations.register("ö", "o-");
+        assertThat(Strman.transliterate("Köln"), equalTo("Ko-ln"));
+    }
+
+    @Test
+    public void clear_shouldRestoreBuiltInTables() throws Exception {
+        Transliterations.register("ü", "u");
+        Transliterations.clear();
+        assertThat(Strman.transliterate("über"), equalTo("ueber"));
+    }
+
+    @Test
+    public void register_shouldApplyToPipelines() throws Exception {
+        Transliterations.register("ä", "a");
+        assertThat(Strman.pipeline().transliterate().compile().apply("Bär"), equalTo("Bar"));
+    }
+
+    @Test
+    public void register_shouldApplyToPipelinesCompiledBefore() throws Exception {
+        Pipeline pipeline = Strman.pipeline().transliterate().compile();
+        assertThat(pipeline.apply("q\u00E9"), equalTo("qe"));
+        Transliterations.register("q", "Z");
+        assertThat(pipeline.apply("q\u00E9"), equalTo(Strman.transliterate("q\u00E9")));
+        assertThat(pipeline.apply("q\u00E9"), equalTo("Ze"));
+    }
+
+    @Test
+    public void transliterate_shouldLoadTheProfileOfEachScript() throws Exception {
+        assertThat(Strman.transliterate("नमस्ते"), is(Strman.transliterate("नमस्ते")));
+        assertTrue(Transliterator.isLoaded("devanagari"));
+        assertThat(Strman.transliterate("Привет γεια"), equalTo("Privet geia"));
+        assertTrue(Transliterator.isLoaded("cyrillic"));
+        assertTrue(Transliterator.isLoaded("greek"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void register_shouldThrowIllegalArgumentExceptionForEmptySource() throws Exception {
+        Transliterations.register("", "x");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void register_shouldThrowIllegalArgumentExceptionForNullMappings() throws Exception {
+        Transliterations.register(null);
+    }
+}
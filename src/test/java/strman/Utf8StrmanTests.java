@@ -0,0 +1,177 @@
+/*
+ *
+ *  * The MIT License
+ *  *
+ *  * Copyright 2016 Shekhar Gulati <shekhargulati84@gmail.com>.
+ *  *
+ *  * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  * of this software and associated documentation files (the "Software"), to deal
+ *  * in the Software without restriction, including without limitation the rights
+ *  * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  * copies of the Software, and to permit persons to whom the Software is
+ *  * furnished to do so, subject to the following conditions:
+ *  *
+ *  * The above copyright notice and this permission notice shall be included in
+ *  * all copies or substantial portions of the Software.
+ *  *
+ *  * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *  * THE SOFTWARE.
+ *
+ */
+
+
+package strman;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.function.BiFunction;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.*;
+
+public class Utf8StrmanTests {
+
+    private static ByteBuffer utf8(String value) {
+        return ByteBuffer.wrap(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static ByteBuffer direct(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length + 2);
+        buffer.put((byte) 'x').put(bytes).put((byte) 'y').flip();
+        buffer.position(1).limit(bytes.length + 1);
+        return buffer;
+    }
+
+    private static String write(String value, BiFunction<ByteBuffer, ByteBuffer, Integer> method) {
+        ByteBuffer out = ByteBuffer.allocate(value.length() * 40 + 8);
+        int written = method.apply(direct(value), out);
+        assertThat(written, equalTo(out.position()));
+        return new String(out.array(), 0, written, StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void isAscii_shouldCheckHighBits() throws Exception {
+        assertThat(Utf8Strman.isAscii(utf8("foo bar")), equalTo(true));
+        assertThat(Utf8Strman.isAscii(utf8("")), equalTo(true));
+        assertThat(Utf8Strman.isAscii(utf8("fóo")), equalTo(false));
+        assertThat(Utf8Strman.isAscii(direct("foo")), equalTo(true));
+    }
+
+    @Test
+    public void isValid_shouldRejectMalformedUtf8() throws Exception {
+        assertThat(Utf8Strman.isValid(utf8("fóõ 日本 😀")), equalTo(true));
+        assertThat(Utf8Strman.isValid(new byte[]{(byte) 0xC0, (byte) 0xAF}), equalTo(false));
+        assertThat(Utf8Strman.isValid(new byte[]{(byte) 0xE0, (byte) 0x80, (byte) 0xAF}), equalTo(false));
+        assertThat(Utf8Strman.isValid(new byte[]{(byte) 0xED, (byte) 0xA0, (byte) 0x80}), equalTo(false));
+        assertThat(Utf8Strman.isValid(new byte[]{(byte) 0xF4, (byte) 0x90, (byte) 0x80, (byte) 0x80}), equalTo(false));
+        assertThat(Utf8Strman.isValid(new byte[]{(byte) 0xE6, (byte) 0x97}), equalTo(false));
+        assertThat(Utf8Strman.isValid(new byte[]{(byte) 0x80}), equalTo(false));
+    }
+
+    @Test
+    public void isValid_shouldAgreeWithTheJdkDecoder() throws Exception {
+        Random random = new Random(42);
+        for (int i = 0; i < 20000; i++) {
+            byte[] bytes = new byte[random.nextInt(6)];
+            random.nextBytes(bytes);
+            assertThat(Utf8Strman.isValid(bytes), equalTo(isDecodable(bytes)));
+        }
+    }
+
+    private static boolean isDecodable(byte[] bytes) {
+        try {
+            StandardCharsets.UTF_8.newDecoder().decode(ByteBuffer.wrap(bytes));
+            return true;
+        } catch (CharacterCodingException e) {
+            return false;
+        }
+    }
+
+    @Test
+    public void indexOf_shouldFindNeedle() throws Exception {
+        assertThat(Utf8Strman.indexOf(utf8("日本 foo"), utf8("foo"), true), equalTo(7));
+        assertThat(Utf8Strman.indexOf(direct("日本 foo"), utf8("本"), true), equalTo(3));
+        assertThat(Utf8Strman.indexOf(utf8("foo"), utf8("FOO"), true), equalTo(-1));
+        assertThat(Utf8Strman.indexOf(utf8("foo"), utf8("FOO"), false), equalTo(0));
+        assertThat(Utf8Strman.indexOf(utf8("foo"), utf8(""), true), equalTo(0));
+        assertThat(Utf8Strman.contains("foo bar".getBytes(StandardCharsets.UTF_8),
+                "O B".getBytes(StandardCharsets.UTF_8), false), equalTo(true));
+        assertThat(Utf8Strman.contains(utf8("fo"), utf8("foo"), true), equalTo(false));
+    }
+
+    @Test
+    public void trim_shouldShareBytes() throws Exception {
+        ByteBuffer value = utf8("  foo bar \n");
+        ByteBuffer trimmed = Utf8Strman.trim(value);
+        assertThat(StandardCharsets.UTF_8.decode(trimmed).toString(), equalTo("foo bar"));
+        assertThat(value.position(), equalTo(0));
+        assertThat(Utf8Strman.trim(utf8("   ")).remaining(), equalTo(0));
+    }
+
+    @Test
+    public void toLowerCaseAscii_shouldConvertInPlace() throws Exception {
+        ByteBuffer value = utf8("FOO Ärger");
+        Utf8Strman.toLowerCaseAscii(value);
+        assertThat(StandardCharsets.UTF_8.decode(value.duplicate()).toString(), equalTo("foo Ärger"));
+        Utf8Strman.toUpperCaseAscii(value);
+        assertThat(StandardCharsets.UTF_8.decode(value).toString(), equalTo("FOO ÄRGER"));
+    }
+
+    @Test
+    public void base64Encode_shouldEncodeBytes() throws Exception {
+        assertThat(write("", Utf8Strman::base64Encode), equalTo(""));
+        assertThat(write("f", Utf8Strman::base64Encode), equalTo("Zg=="));
+        assertThat(write("fo", Utf8Strman::base64Encode), equalTo("Zm8="));
+        assertThat(write("foo", Utf8Strman::base64Encode), equalTo("Zm9v"));
+    }
+
+    @Test
+    public void decode_shouldDecodeUtf8() throws Exception {
+        assertThat(Utf8Strman.decode(direct("foo")), equalTo("foo"));
+        assertThat(Utf8Strman.decode(direct("日本 😀")), equalTo("日本 😀"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void htmlEncode_shouldThrowIllegalArgumentExceptionForMalformedUtf8() throws Exception {
+        Utf8Strman.htmlEncode(ByteBuffer.wrap(new byte[]{'a', (byte) 0xFF}), ByteBuffer.allocate(16));
+    }
+
+    @Test(expected = BufferOverflowException.class)
+    public void removeSpaces_shouldThrowBufferOverflowExceptionForSmallOut() throws Exception {
+        Utf8Strman.removeSpaces(utf8("foo bar"), ByteBuffer.allocate(3));
+    }
+
+    @Test
+    public void methods_shouldMatchStrman() throws Exception {
+        Random random = new Random(7);
+        String alphabet = "aZ9 _-&<>\"'\t\n\r\u000Béñ日 —";
+        for (int i = 0; i < 5000; i++) {
+            StringBuilder builder = new StringBuilder();
+            for (int j = random.nextInt(12); j > 0; j--) {
+                if (random.nextInt(10) == 0) {
+                    builder.append("😀");
+                } else {
+                    builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+                }
+            }
+            String value = builder.toString();
+            assertThat(write(value, Utf8Strman::htmlEncode), equalTo(Strman.htmlEncode(value)));
+            assertThat(write(value, Utf8Strman::collapseWhitespace), equalTo(Strman.collapseWhitespace(value)));
+            assertThat(write(value, Utf8Strman::removeSpaces), equalTo(Strman.removeSpaces(value)));
+            assertThat(write(value, Utf8Strman::slugify), equalTo(Strman.slugify(value)));
+            assertThat(write(value, Utf8Strman::base64Encode), equalTo(Strman.base64Encode(value)));
+            assertThat(Utf8Strman.contains(utf8(value), utf8("a"), true), equalTo(value.contains("a")));
+        }
+    }
+}